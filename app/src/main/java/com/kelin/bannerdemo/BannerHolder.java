@@ -23,6 +23,7 @@ class BannerHolder extends ItemViewHolder<List<TitleImageBannerEntry>> {
         super(itemView);
         mBanner = getView(R.id.vp_view_pager);
         mBanner.setPageTransformer(true, new CardPageTransformer());
+        mBanner.setPrefetcher(new GlideBannerPrefetcher());
     }
 
     @Override
@@ -0,0 +1,23 @@
+package com.kelin.bannerdemo;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import com.bumptech.glide.Glide;
+import com.kelin.banner.BannerPrefetcher;
+
+/**
+ * 描述 使用Glide实现的资源预取器。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午5:40
+ * 版本 v 1.0.0
+ */
+
+public class GlideBannerPrefetcher implements BannerPrefetcher {
+
+    @Override
+    public void prefetch(@NonNull Context context, @NonNull String url) {
+        Glide.with(context).load(url).preload();
+    }
+}
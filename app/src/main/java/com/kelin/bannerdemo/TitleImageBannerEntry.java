@@ -9,6 +9,7 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 
+import com.bumptech.glide.Glide;
 import com.kelin.banner.SimpleBannerEntry;
 
 /**
@@ -18,32 +19,46 @@ import com.kelin.banner.SimpleBannerEntry;
  */
 
 public class TitleImageBannerEntry extends SimpleBannerEntry<String> {
-    private final String url;
     private String title;
     private String subTitle;
     @DrawableRes
     private int imgRes;
 
-    TitleImageBannerEntry(String title, String subTitle, int imgRes, String url) {
+    TitleImageBannerEntry(String title, String subTitle, int imgRes) {
         this.title = title;
         this.subTitle = subTitle;
         this.imgRes = imgRes;
-        this.url = url;
     }
 
     @Override
     @NonNull
     public View onCreateView(ViewGroup parent) {
-        View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.layout_title_banner_item, parent, false);
-        ImageView imageView = view.findViewById(R.id.iv_image);
-        imageView.setImageResource(imgRes);
-        return view;
+        return LayoutInflater.from(parent.getContext()).inflate(R.layout.layout_title_banner_item, parent, false);
     }
 
+    @Override
+    public void onBindData(@NonNull View entryView) {
+        ImageView imageView = entryView.findViewById(R.id.iv_image);
+        //与预取器使用相同的地址加载，这样可以直接命中预取时的缓存。
+        Glide.with(imageView).load(getImageUrl()).into(imageView);
+    }
+
+    /**
+     * 所有的数据都是在{@link #onBindData(View)}中绑定的，所以所有的TitleImageBannerEntry可以共用同一种页面。
+     * 使用布局的资源ID作为页面类型，这样不同布局的模型不会拿到彼此的页面。
+     */
+    @Override
+    public int getViewType() {
+        return R.layout.layout_title_banner_item;
+    }
+
+    /**
+     * 图片是资源文件，以资源Uri的形式提供给预取器。
+     */
     @NonNull
     @Override
     public String getImageUrl() {
-        return url;
+        return "android.resource://" + BuildConfig.APPLICATION_ID + "/" + imgRes;
     }
 
     /**
@@ -0,0 +1,340 @@
+package com.kelin.banner.transformer;
+
+import android.content.Context;
+import android.os.Build;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+import androidx.viewpager.widget.ViewPager;
+
+import com.kelin.banner.BannerEntry;
+import com.kelin.banner.view.BannerView;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * 描述 {@link BasePageTransformer}透明度策略的测试：翻页期间半透明的页面在每一帧都持有硬件图层(或声明为没有重叠的内容)，
+ * 因此不会每一帧都分配离屏缓冲；停止滚动、关闭页面图层、更换策略或翻页动画后页面被恢复原样。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午10:20
+ * 版本 v 1.0.0
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class AlphaStrategyTest {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 540;
+    /**
+     * 模拟拖拽时每一帧移动的距离。
+     */
+    private static final float DRAG_STEP = -36;
+    private static final int DRAG_FRAMES = 20;
+
+    private Context mContext;
+
+    @Before
+    public void setUp() {
+        mContext = InstrumentationRegistry.getInstrumentation().getTargetContext();
+    }
+
+    @Test
+    public void layerStrategyHoldsLayerWhileTranslucent() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                View page = createPage(mContext);
+                AlphaPageTransformer transformer = new AlphaPageTransformer();
+                float[] positions = {0, 0.25F, 0.5F, 0.75F, 1, 0.5F, 0, -0.5F, -1};
+                for (float position : positions) {
+                    transformer.transformPage(page, position);
+                    assertAlphaLayer(page, position);
+                    //模拟ViewPager在滚动状态改变时重置所有页面的图层，下一帧必须恢复。
+                    page.setLayerType(View.LAYER_TYPE_NONE, null);
+                    transformer.transformPage(page, position);
+                    assertAlphaLayer(page, position);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void restoreAlphaLayerAfterReset() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                View page = createPage(mContext);
+                new AlphaPageTransformer().transformPage(page, 0.5F);
+                page.setLayerType(View.LAYER_TYPE_NONE, null);
+                BasePageTransformer.restoreAlphaLayer(page);
+                assertEquals(View.LAYER_TYPE_HARDWARE, page.getLayerType());
+
+                View opaque = createPage(mContext);
+                new AlphaPageTransformer().transformPage(opaque, 0);
+                BasePageTransformer.restoreAlphaLayer(opaque);
+                assertEquals(View.LAYER_TYPE_NONE, opaque.getLayerType());
+            }
+        });
+    }
+
+    @Test
+    public void changingStrategyReleasesLayer() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                View page = createPage(mContext);
+                AlphaPageTransformer transformer = new AlphaPageTransformer();
+                transformer.transformPage(page, 0.5F);
+                assertTrue(BasePageTransformer.isHoldingAlphaLayer(page));
+
+                transformer.setAlphaStrategy(BasePageTransformer.ALPHA_STRATEGY_DEFAULT);
+                transformer.transformPage(page, 0.4F);
+                assertFalse(BasePageTransformer.isHoldingAlphaLayer(page));
+                assertEquals(View.LAYER_TYPE_NONE, page.getLayerType());
+            }
+        });
+    }
+
+    @Test
+    public void disablingAlphaLayerFallsBackToDefault() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                View page = createPage(mContext);
+                AlphaPageTransformer transformer = new AlphaPageTransformer();
+                transformer.transformPage(page, 0.5F);
+                assertTrue(BasePageTransformer.isHoldingAlphaLayer(page));
+
+                transformer.setAlphaLayerEnable(false);
+                transformer.transformPage(page, 0.4F);
+                assertFalse(BasePageTransformer.isHoldingAlphaLayer(page));
+                assertEquals(View.LAYER_TYPE_NONE, page.getLayerType());
+                assertTrue(page.hasOverlappingRendering());
+
+                transformer.setAlphaLayerEnable(true);
+                transformer.transformPage(page, 0.3F);
+                assertTrue(BasePageTransformer.isHoldingAlphaLayer(page));
+                assertEquals(View.LAYER_TYPE_HARDWARE, page.getLayerType());
+            }
+        });
+    }
+
+    @Test
+    public void noOverlappingStrategyIsUndone() {
+        assumeTrue(Build.VERSION.SDK_INT >= Build.VERSION_CODES.N);
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                View page = createPage(mContext);
+                assertTrue(page.hasOverlappingRendering());
+                AlphaPageTransformer transformer = new AlphaPageTransformer();
+                transformer.setAlphaStrategy(BasePageTransformer.ALPHA_STRATEGY_NO_OVERLAPPING);
+                float[] positions = {0.25F, 0.5F, 0.75F, 0.5F};
+                for (float position : positions) {
+                    transformer.transformPage(page, position);
+                    assertFalse(page.hasOverlappingRendering());
+                    assertEquals(View.LAYER_TYPE_NONE, page.getLayerType());
+                }
+
+                //更换透明度策略。
+                transformer.setAlphaStrategy(BasePageTransformer.ALPHA_STRATEGY_LAYER);
+                transformer.transformPage(page, 0.5F);
+                assertTrue(page.hasOverlappingRendering());
+                assertEquals(View.LAYER_TYPE_HARDWARE, page.getLayerType());
+
+                //更换翻页动画。
+                View other = createPage(mContext);
+                transformer.setAlphaStrategy(BasePageTransformer.ALPHA_STRATEGY_NO_OVERLAPPING);
+                transformer.transformPage(other, 0.5F);
+                assertFalse(other.hasOverlappingRendering());
+                new DepthPageTransformer().transformPage(other, 0);
+                assertTrue(other.hasOverlappingRendering());
+            }
+        });
+    }
+
+    @Test
+    public void fakeDragHoldsLayersOnlyWhileScrolling() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                BannerView bannerView = createGallery(mContext, true);
+                final int[] scrollState = {ViewPager.SCROLL_STATE_IDLE};
+                bannerView.addOnPageChangeListener(new ViewPager.SimpleOnPageChangeListener() {
+                    @Override
+                    public void onPageScrollStateChanged(int state) {
+                        scrollState[0] = state;
+                    }
+                });
+
+                //停止滚动时不持有任何图层。
+                assertNoLayers(bannerView);
+                assertTrue(bannerView.beginFakeDrag());
+                assertEquals(ViewPager.SCROLL_STATE_DRAGGING, scrollState[0]);
+                for (int i = 0; i < DRAG_FRAMES; i++) {
+                    bannerView.fakeDragBy(DRAG_STEP);
+                    //开始拖拽时ViewPager会把所有页面的图层重置，半透明的页面必须在每一帧都持有图层。
+                    assertTranslucentPagesHoldLayer(bannerView);
+                }
+                bannerView.endFakeDrag();
+                assertTranslucentPagesHoldLayer(bannerView);
+                //跳过惯性滚动直接停止，停止后图层全部释放。
+                bannerView.setCurrentItem(bannerView.getCurrentItem() + 1, false);
+                assertEquals(ViewPager.SCROLL_STATE_IDLE, scrollState[0]);
+                assertNoLayers(bannerView);
+
+                //更换翻页动画后同样不能再持有图层。
+                assertTrue(bannerView.beginFakeDrag());
+                bannerView.fakeDragBy(DRAG_STEP);
+                assertTranslucentPagesHoldLayer(bannerView);
+                bannerView.setPageTransformer(false, null);
+                assertNoLayers(bannerView);
+                bannerView.endFakeDrag();
+            }
+        });
+    }
+
+    @Test
+    public void fakeDragHoldsNoLayersWhenPageLayersAreDisabled() {
+        runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                BannerView bannerView = createGallery(mContext, false);
+                assertNoLayers(bannerView);
+                assertTrue(bannerView.beginFakeDrag());
+                for (int i = 0; i < DRAG_FRAMES; i++) {
+                    bannerView.fakeDragBy(DRAG_STEP);
+                    assertNoLayers(bannerView);
+                }
+                bannerView.endFakeDrag();
+                bannerView.setCurrentItem(bannerView.getCurrentItem() + 1, false);
+                assertNoLayers(bannerView);
+            }
+        });
+    }
+
+    private static BannerView createGallery(Context context, boolean pageLayerEnable) {
+        FrameLayout parent = new FrameLayout(context);
+        BannerView bannerView = new BannerView(context);
+        parent.addView(bannerView, new FrameLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        List<TestEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(new TestEntry(i));
+        }
+        bannerView.setEntries(entries, false);
+        GalleryTransformer transformer = new GalleryTransformer();
+        transformer.setAlphaStrategy(BasePageTransformer.ALPHA_STRATEGY_LAYER);
+        bannerView.setShowLeftAndRightPage(60, true, transformer);
+        bannerView.setPageLayerEnable(pageLayerEnable);
+        layout(parent);
+        return bannerView;
+    }
+
+    private static void runOnMainSync(Runnable runnable) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(runnable);
+    }
+
+    private static View createPage(Context context) {
+        //两个重叠的子View，这样页面一定有重叠的内容。
+        FrameLayout page = new FrameLayout(context);
+        page.addView(new View(context), new FrameLayout.LayoutParams(WIDTH, HEIGHT));
+        page.addView(new View(context), new FrameLayout.LayoutParams(WIDTH, HEIGHT));
+        page.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY), View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        page.layout(0, 0, WIDTH, HEIGHT);
+        return page;
+    }
+
+    private static void layout(View view) {
+        view.measure(View.MeasureSpec.makeMeasureSpec(WIDTH, View.MeasureSpec.EXACTLY), View.MeasureSpec.makeMeasureSpec(HEIGHT, View.MeasureSpec.EXACTLY));
+        view.layout(0, 0, WIDTH, HEIGHT);
+    }
+
+    private static void assertAlphaLayer(View page, float position) {
+        boolean translucent = page.getAlpha() > 0 && page.getAlpha() < 1;
+        assertEquals("position " + position, translucent, BasePageTransformer.isHoldingAlphaLayer(page));
+        assertEquals("position " + position, translucent ? View.LAYER_TYPE_HARDWARE : View.LAYER_TYPE_NONE, page.getLayerType());
+    }
+
+    private static void assertNoLayers(BannerView bannerView) {
+        for (int i = 0; i < bannerView.getChildCount(); i++) {
+            View child = bannerView.getChildAt(i);
+            assertFalse(BasePageTransformer.isHoldingAlphaLayer(child));
+            assertEquals(View.LAYER_TYPE_NONE, child.getLayerType());
+        }
+    }
+
+    private static void assertTranslucentPagesHoldLayer(BannerView bannerView) {
+        int translucentCount = 0;
+        for (int i = 0; i < bannerView.getChildCount(); i++) {
+            View child = bannerView.getChildAt(i);
+            if (child.getAlpha() > 0 && child.getAlpha() < 1) {
+                translucentCount++;
+                assertTrue(BasePageTransformer.isHoldingAlphaLayer(child));
+                assertEquals(View.LAYER_TYPE_HARDWARE, child.getLayerType());
+            }
+        }
+        //两边的页面是可见的，所以至少有一个半透明的页面。
+        assertTrue(translucentCount > 0);
+    }
+
+    private static class TestEntry implements BannerEntry<Integer> {
+
+        private final int mValue;
+
+        TestEntry(int value) {
+            mValue = value;
+        }
+
+        @NonNull
+        @Override
+        public View onCreateView(ViewGroup parent) {
+            return createPage(parent.getContext());
+        }
+
+        @Override
+        public void onBindData(@NonNull View entryView) {
+        }
+
+        @Override
+        public void unbindData(@NonNull View entryView) {
+        }
+
+        @Nullable
+        @Override
+        public CharSequence getTitle() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public CharSequence getSubTitle() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Integer getValue() {
+            return mValue;
+        }
+
+        @Override
+        public boolean theSame(BannerEntry newEntry) {
+            return newEntry instanceof TestEntry && ((TestEntry) newEntry).mValue == mValue;
+        }
+    }
+}
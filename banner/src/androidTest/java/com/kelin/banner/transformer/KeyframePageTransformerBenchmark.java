@@ -0,0 +1,90 @@
+package com.kelin.banner.transformer;
+
+import android.os.Bundle;
+import android.view.View;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * 描述 对比{@link KeyframePageTransformer}的工厂方法与库中自带的翻页动画在真实页面上执行transformPage的耗时。
+ * <p>耗时与设备有关，所以这里不做断言，每一项的结果(纳秒/页)通过Instrumentation的状态报告输出，可以通过
+ * <code>adb shell am instrument -w -r -e class com.kelin.banner.transformer.KeyframePageTransformerBenchmark ...</code>查看。
+ * 标记为{@link LargeTest}，可以通过<code>-e size small</code>或<code>-e size medium</code>在日常的测试中排除。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午11:50
+ * 版本 v 1.0.0
+ */
+
+@LargeTest
+@RunWith(AndroidJUnit4.class)
+public class KeyframePageTransformerBenchmark {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 540;
+    /**
+     * 预热的轮数，预热的结果不报告。
+     */
+    private static final int WARM_UP_ROUNDS = 4;
+    /**
+     * 每一轮中每个位置执行的次数。
+     */
+    private static final int ITERATIONS = 200;
+    /**
+     * 覆盖[-3, 3]，步长为0.01。
+     */
+    private static final float[] POSITIONS = new float[601];
+
+    static {
+        for (int i = 0; i < POSITIONS.length; i++) {
+            POSITIONS[i] = (i - 300) / 100F;
+        }
+    }
+
+    @Test
+    public void transformPage() {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                BasePageTransformer[] transformers = {
+                        new AlphaPageTransformer(), KeyframePageTransformer.alpha(),
+                        new DepthPageTransformer(), KeyframePageTransformer.depth(),
+                        new ZoomOutPageTransformer(), KeyframePageTransformer.zoomOut(),
+                        new GalleryTransformer(), KeyframePageTransformer.gallery()
+                };
+                String[] names = {
+                        "alpha_hand_written", "alpha_keyframes",
+                        "depth_hand_written", "depth_keyframes",
+                        "zoom_out_hand_written", "zoom_out_keyframes",
+                        "gallery_hand_written", "gallery_keyframes"
+                };
+                View page = new View(InstrumentationRegistry.getInstrumentation().getTargetContext());
+                page.layout(0, 0, WIDTH, HEIGHT);
+                Bundle results = new Bundle();
+                for (int round = 0; round <= WARM_UP_ROUNDS; round++) {
+                    for (int i = 0; i < transformers.length; i++) {
+                        long elapsed = time(transformers[i], page);
+                        if (round == WARM_UP_ROUNDS) {
+                            results.putDouble(names[i] + "_ns_per_page", elapsed / ((double) ITERATIONS * POSITIONS.length));
+                        }
+                    }
+                }
+                InstrumentationRegistry.getInstrumentation().sendStatus(0, results);
+            }
+        });
+    }
+
+    private static long time(BasePageTransformer transformer, View page) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (float position : POSITIONS) {
+                transformer.transformPage(page, position);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
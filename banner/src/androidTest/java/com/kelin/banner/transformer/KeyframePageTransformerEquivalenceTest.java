@@ -0,0 +1,100 @@
+package com.kelin.banner.transformer;
+
+import android.os.Build;
+import android.view.View;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 描述 {@link KeyframePageTransformer}的工厂方法与库中自带的翻页动画的对比：两个翻页动画分别通过transformPage作用到两个相同尺寸的真实页面上，
+ * 再比较页面最终的属性，所以自带的翻页动画被修改后这里会失败。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午11:40
+ * 版本 v 1.0.0
+ */
+
+@RunWith(AndroidJUnit4.class)
+public class KeyframePageTransformerEquivalenceTest {
+
+    private static final int WIDTH = 1080;
+    private static final int HEIGHT = 540;
+    /**
+     * 位置的步长。
+     */
+    private static final float STEP = 0.01F;
+    /**
+     * 比例类属性的误差。
+     */
+    private static final float DELTA = 1e-3F;
+    /**
+     * 像素类属性的误差。
+     */
+    private static final float PIXEL_DELTA = 0.5F;
+
+    @Test
+    public void alphaMatchesAlphaPageTransformer() {
+        compare(new AlphaPageTransformer(), KeyframePageTransformer.alpha(), -1, 1, DELTA, PIXEL_DELTA);
+    }
+
+    @Test
+    public void depthMatchesDepthPageTransformer() {
+        compare(new DepthPageTransformer(), KeyframePageTransformer.depth(), -1, 1, DELTA, PIXEL_DELTA);
+    }
+
+    @Test
+    public void zoomOutMatchesZoomOutPageTransformer() {
+        //最小缩放比例处的拐点不在采样点上，所以允许一个采样间隔内的误差。
+        compare(new ZoomOutPageTransformer(), KeyframePageTransformer.zoomOut(), -1, 1, 0.03F, WIDTH * 0.01F);
+    }
+
+    @Test
+    public void galleryMatchesGalleryTransformer() {
+        compare(new GalleryTransformer(), KeyframePageTransformer.gallery(), -3, 3, DELTA, PIXEL_DELTA);
+    }
+
+    private static void compare(final BasePageTransformer expected, final KeyframePageTransformer actual, final float from, final float to,
+                                final float delta, final float pixelDelta) {
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+            @Override
+            public void run() {
+                View expectedPage = createPage();
+                View actualPage = createPage();
+                float step = 1F / KeyframePageTransformer.DEFAULT_SAMPLES_PER_UNIT;
+                //用整数计数，避免累加的误差使最后一个位置超出范围。
+                int count = Math.round((to - from) / STEP);
+                for (int i = 0; i <= count; i++) {
+                    float position = from + (to - from) * i / count;
+                    expected.transformPage(expectedPage, position);
+                    actual.transformPage(actualPage, position);
+                    String at = " at " + position;
+                    assertEquals("alpha" + at, expectedPage.getAlpha(), actualPage.getAlpha(), delta);
+                    assertEquals("scaleX" + at, expectedPage.getScaleX(), actualPage.getScaleX(), delta);
+                    assertEquals("scaleY" + at, expectedPage.getScaleY(), actualPage.getScaleY(), delta);
+                    assertEquals("translationX" + at, expectedPage.getTranslationX(), actualPage.getTranslationX(), pixelDelta);
+                    assertEquals("translationY" + at, expectedPage.getTranslationY(), actualPage.getTranslationY(), pixelDelta);
+                    assertEquals("rotation" + at, expectedPage.getRotation(), actualPage.getRotation(), delta);
+                    //画廊效果的旋转中心在0处跳变，Z轴高度在±0.25处跳变，跳变处的一个采样间隔内是过渡。
+                    if (position <= 0 || position >= step) {
+                        assertEquals("pivotX" + at, expectedPage.getPivotX(), actualPage.getPivotX(), pixelDelta);
+                    }
+                    assertEquals("pivotY" + at, expectedPage.getPivotY(), actualPage.getPivotY(), pixelDelta);
+                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && Math.abs(Math.abs(position) - 0.25F) >= step) {
+                        assertEquals("elevation" + at, expectedPage.getElevation(), actualPage.getElevation(), delta);
+                    }
+                }
+            }
+        });
+    }
+
+    private static View createPage() {
+        View page = new View(InstrumentationRegistry.getInstrumentation().getTargetContext());
+        page.layout(0, 0, WIDTH, HEIGHT);
+        return page;
+    }
+}
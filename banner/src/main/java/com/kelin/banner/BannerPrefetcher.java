@@ -0,0 +1,31 @@
+package com.kelin.banner;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 描述 Banner的资源预取器。
+ * <p>BannerView本身不依赖任何图片框架，所以预取的具体实现由使用者提供，例如使用Glide时可以这样实现：
+ * <pre>
+ *     public void prefetch(Context context, String url) {
+ *         Glide.with(context).load(url).preload();
+ *     }
+ * </pre>
+ * 设置了预取器后，BannerView会在页面切换时对当前页附近的模型调用{@link PrefetchableBannerEntry#onPrefetch(Context, BannerPrefetcher)}方法，
+ * 这样在页面被创建之前它的图片就已经在缓存中了。该接口的所有方法都在主线程中调用。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午5:30
+ * 版本 v 1.0.0
+ */
+
+public interface BannerPrefetcher {
+
+    /**
+     * 预取一个资源。
+     *
+     * @param context 上下文。
+     * @param url     资源的地址，一般为图片的Url。
+     */
+    void prefetch(@NonNull Context context, @NonNull String url);
+}
@@ -0,0 +1,27 @@
+package com.kelin.banner;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 描述 可以预取资源的Banner模型。
+ * <p>实现了该接口的模型会在它的页面被创建之前(当前页附近的页面)收到{@link #onPrefetch(Context, BannerPrefetcher)}回调，
+ * 可以在这里通过预取器预先加载图片等耗时的资源，这样页面在{@link #onCreateView(ViewGroup)}或{@link #onBindData(android.view.View)}中
+ * 加载资源时就可以直接命中缓存。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午5:30
+ * 版本 v 1.0.0
+ */
+
+public interface PrefetchableBannerEntry<VALUE> extends BannerEntry<VALUE> {
+
+    /**
+     * 预取当前模型所需要的资源，在主线程中调用。
+     *
+     * @param context    上下文。
+     * @param prefetcher 通过{@link com.kelin.banner.view.BannerView#setPrefetcher(BannerPrefetcher)}设置的预取器。
+     */
+    void onPrefetch(@NonNull Context context, @NonNull BannerPrefetcher prefetcher);
+}
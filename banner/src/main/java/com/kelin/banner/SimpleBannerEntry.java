@@ -2,9 +2,13 @@ package com.kelin.banner;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import android.content.Context;
 import android.text.TextUtils;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.ImageView;
+
+import com.kelin.banner.image.BannerImageLoader;
 
 import java.util.List;
 
@@ -17,7 +21,7 @@ import java.util.List;
  * @param <D> 该BannerEntry容器中所要盛放的对象的类型。
  */
 
-public abstract class SimpleBannerEntry<D> implements BannerEntry<D> {
+public abstract class SimpleBannerEntry<D> implements TypedBannerEntry<D>, StableBannerEntry<D>, PrefetchableBannerEntry<D> {
 
     /**
      * 当需要对页面中的组件绑定数据时调用，不同与{@link #onCreateView(ViewGroup)}的调用时机，
@@ -37,6 +41,63 @@ public abstract class SimpleBannerEntry<D> implements BannerEntry<D> {
     public void unbindData(@NonNull View entryView) {
     }
 
+    /**
+     * 获取页面类型，默认没有页面类型。如果你的页面布局可以被其他模型复用(所有的数据都在{@link #onBindData(View)}中绑定)，
+     * 可以覆盖该方法并返回一个大于等于0的类型。
+     *
+     * @return 返回页面类型。
+     */
+    @Override
+    public int getViewType() {
+        return NO_VIEW_TYPE;
+    }
+
+    /**
+     * 获取稳定ID，默认没有稳定ID。如果你的数据中有唯一的ID(例如服务端返回的ID)，可以覆盖该方法并返回它，
+     * 同时覆盖{@link #getContentHash()}方法，这样{@link #theSame(BannerEntry)}方法就只需要比较两个long值。
+     *
+     * @return 返回稳定ID。
+     */
+    @Override
+    public long getStableId() {
+        return NO_ID;
+    }
+
+    /**
+     * 获取内容哈希，默认没有内容哈希。
+     *
+     * @return 返回内容哈希。
+     * @see #getStableId()
+     */
+    @Override
+    public long getContentHash() {
+        return NO_ID;
+    }
+
+    /**
+     * 预取当前模型所需要的资源，默认预取{@link #getImageUrl()}返回的图片。
+     *
+     * @param context    上下文。
+     * @param prefetcher 预取器。
+     */
+    @Override
+    public void onPrefetch(@NonNull Context context, @NonNull BannerPrefetcher prefetcher) {
+        String url = getImageUrl();
+        if (!TextUtils.isEmpty(url)) {
+            prefetcher.prefetch(context, url);
+        }
+    }
+
+    /**
+     * 使用内置的图片加载器{@link BannerImageLoader}将{@link #getImageUrl()}返回的图片按照ImageView的尺寸解码后显示，
+     * 一般在{@link #onBindData(View)}中调用。只支持本地的图片来源(文件、assets、ContentProvider及资源文件)，网络图片请使用你自己的图片框架。
+     *
+     * @param imageView 用来显示图片的ImageView。
+     */
+    protected void loadImage(@NonNull ImageView imageView) {
+        BannerImageLoader.getInstance(imageView.getContext()).load(getImageUrl(), imageView);
+    }
+
     /**
      * 获取图片的Url地址。
      *
@@ -92,6 +153,13 @@ public abstract class SimpleBannerEntry<D> implements BannerEntry<D> {
      */
     @Override
     public boolean theSame(BannerEntry newEntry) {
+        //稳定ID只在同一种模型中唯一，不同类型的模型即使ID和内容哈希相同也不是同一个条目。
+        if (newEntry instanceof StableBannerEntry && newEntry.getClass() == getClass()) {
+            StableBannerEntry entry = (StableBannerEntry) newEntry;
+            if (getStableId() != NO_ID && getContentHash() != NO_ID && entry.getStableId() != NO_ID && entry.getContentHash() != NO_ID) {
+                return getStableId() == entry.getStableId() && getContentHash() == entry.getContentHash();
+            }
+        }
         return newEntry != null && TextUtils.equals(newEntry.getClass().getSimpleName(), getClass().getSimpleName()) && TextUtils.equals(getTitle(), newEntry.getTitle()) && TextUtils.equals(getSubTitle(), newEntry.getSubTitle()) && TextUtils.equals(getImageUrl(), ((SimpleBannerEntry) newEntry).getImageUrl());
     }
 }
@@ -0,0 +1,36 @@
+package com.kelin.banner;
+
+import java.util.List;
+
+/**
+ * 描述 可以提供稳定ID及内容哈希的Banner模型。
+ * <p>默认情况下{@link com.kelin.banner.view.BannerView#setEntries(List)}需要对每一个模型调用{@link #theSame(BannerEntry)}方法，
+ * 在列表中频繁绑定时这些字符串的比较会带来不小的开销。实现该接口后会优先使用两个long值进行比较：{@link #getStableId()}用来判断两个模型是否是同一个条目，
+ * {@link #getContentHash()}用来判断条目中需要展示在UI视图上的内容是否改变了。任何一个方法返回{@link #NO_ID}时都会退回到{@link #theSame(BannerEntry)}方法。
+ * <p>稳定ID只需要在同一种模型中唯一，不同类型的模型即使稳定ID及内容哈希都相同也会被认为是不同的条目。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午4:05
+ * 版本 v 1.0.0
+ */
+
+public interface StableBannerEntry<VALUE> extends BannerEntry<VALUE> {
+
+    /**
+     * 表示没有稳定ID或内容哈希。
+     */
+    long NO_ID = -1;
+
+    /**
+     * 获取稳定ID，同一个条目在每次刷新时都应当返回相同的值，不同的条目则应当返回不同的值。
+     *
+     * @return 返回稳定ID，如果没有则返回{@link #NO_ID}。
+     */
+    long getStableId();
+
+    /**
+     * 获取内容哈希，只需要包含需要展示在UI视图上的字段(例如标题、图片等)，这些字段没有改变时应当返回相同的值。
+     *
+     * @return 返回内容哈希，如果没有则返回{@link #NO_ID}。
+     */
+    long getContentHash();
+}
@@ -0,0 +1,30 @@
+package com.kelin.banner;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * 描述 可以声明页面类型的Banner模型。
+ * <p>默认情况下每个{@link BannerEntry}的页面只会被它自己复用。如果多个模型使用相同的布局，则可以实现该接口并为它们返回相同的类型，
+ * 这样页面会在相同类型的模型之间复用，存活的页面数量只与同时显示的页面数量有关，而与模型的数量无关。
+ * <p><strong>注意：</strong>声明了页面类型的模型必须在{@link #onBindData(View)}方法中完成所有的数据绑定，
+ * 因为{@link #onCreateView(ViewGroup)}创建的页面可能会被用来显示其他的模型。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午2:10
+ * 版本 v 1.0.0
+ */
+
+public interface TypedBannerEntry<VALUE> extends BannerEntry<VALUE> {
+
+    /**
+     * 表示没有页面类型，页面只会被当前的模型复用。
+     */
+    int NO_VIEW_TYPE = -1;
+
+    /**
+     * 获取页面类型。
+     *
+     * @return 返回大于等于0的页面类型，相同类型的模型之间的页面可以相互复用。如果返回{@link #NO_VIEW_TYPE}则不参与复用。
+     */
+    int getViewType();
+}
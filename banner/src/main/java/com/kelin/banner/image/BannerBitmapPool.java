@@ -0,0 +1,209 @@
+package com.kelin.banner.image;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * 描述 Banner图片的Bitmap复用池。
+ * <p>{@link BannerImageLoader}在解码时会通过{@link android.graphics.BitmapFactory.Options#inBitmap}复用这里的Bitmap，
+ * 图片从内存缓存中移除并且已经没有任何ImageView在显示它时会被放回这里，这样自动轮播时就不会周期性地分配和释放大块的内存，
+ * 也就不会因此在翻页动画时触发GC。
+ * <p>Bitmap按照占用的字节数以2的幂次分桶存放(见{@link SizeBucketPool})。Android 4.4及以上只要Bitmap占用的内存足够就可以复用，
+ * 4.4以下则要求尺寸及格式完全相同并且不能进行采样。复用池的总大小同样受字节预算的限制，超出预算时最早放入的Bitmap会被丢弃。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午7:00
+ * 版本 v 1.0.0
+ */
+
+public final class BannerBitmapPool {
+
+    /**
+     * 分桶及预算逻辑。
+     */
+    private final SizeBucketPool<Bitmap> mPool;
+    /**
+     * 4.4以下用来查找尺寸及格式完全相同的Bitmap，只在持有锁时使用。
+     */
+    private final ExactMatcher mExactMatcher = new ExactMatcher();
+    private int mHitCount;
+    private int mMissCount;
+    private int mPutCount;
+
+    /**
+     * 创建复用池。
+     *
+     * @param maxSize 复用池的字节预算。
+     */
+    public BannerBitmapPool(int maxSize) {
+        mPool = new SizeBucketPool<Bitmap>(maxSize) {
+            @Override
+            int getBytes(@NonNull Bitmap item) {
+                return getAllocationBytes(item);
+            }
+        };
+    }
+
+    /**
+     * 获取一个可以用来解码指定尺寸及格式的图片的Bitmap。
+     *
+     * @param width  解码后的宽度。
+     * @param height 解码后的高度。
+     * @param config 解码后的格式。
+     * @return 如果有可以复用的Bitmap则返回该Bitmap，否则返回null。
+     */
+    @Nullable
+    synchronized Bitmap get(int width, int height, @NonNull Bitmap.Config config) {
+        int bytes = width * height * getBytesPerPixel(config);
+        Bitmap bitmap;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            bitmap = mPool.get(bytes);
+        } else {
+            mExactMatcher.set(width, height, config);
+            bitmap = mPool.getExact(bytes, mExactMatcher);
+            mExactMatcher.set(0, 0, null);
+        }
+        if (bitmap == null) {
+            mMissCount++;
+        } else {
+            mHitCount++;
+        }
+        return bitmap;
+    }
+
+    /**
+     * 将一个Bitmap放入复用池。
+     *
+     * @param bitmap 要放入的Bitmap，必须是可变的并且没有被回收。
+     * @return 如果成功放入则返回true，否则返回false。
+     */
+    synchronized boolean put(@NonNull Bitmap bitmap) {
+        if (!bitmap.isMutable() || bitmap.isRecycled() || !mPool.put(bitmap)) {
+            return false;
+        }
+        mPutCount++;
+        return true;
+    }
+
+    /**
+     * 设置复用池的字节预算。
+     *
+     * @param maxSize 字节预算。
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        mPool.setMaxSize(maxSize);
+    }
+
+    public synchronized int getMaxSize() {
+        return mPool.getMaxSize();
+    }
+
+    /**
+     * 获取复用池中所有Bitmap占用的字节数。
+     */
+    public synchronized int getSize() {
+        return mPool.getSize();
+    }
+
+    /**
+     * 清空复用池。
+     *
+     * @return 返回被释放的字节数。
+     */
+    public synchronized int clear() {
+        return mPool.clear();
+    }
+
+    /**
+     * 获取解码时成功复用Bitmap的次数。
+     */
+    public synchronized int getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * 获取解码时没有可以复用的Bitmap的次数。
+     */
+    public synchronized int getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * 获取Bitmap被放入复用池的次数。
+     */
+    public synchronized int getPutCount() {
+        return mPutCount;
+    }
+
+    /**
+     * 获取Bitmap因为超出预算或被清空而被丢弃的次数。
+     */
+    public synchronized int getEvictionCount() {
+        return mPool.getEvictionCount();
+    }
+
+    /**
+     * 获取复用的命中率。
+     *
+     * @return 返回0~1之间的命中率，没有任何请求时返回0。
+     */
+    public synchronized float getHitRate() {
+        int total = mHitCount + mMissCount;
+        return total == 0 ? 0 : (float) mHitCount / total;
+    }
+
+    /**
+     * 将所有的统计数据归零。
+     */
+    public synchronized void resetStats() {
+        mHitCount = 0;
+        mMissCount = 0;
+        mPutCount = 0;
+        mPool.resetEvictionCount();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "BannerBitmapPool{size=" + mPool.getSize() + ", maxSize=" + mPool.getMaxSize() + ", hits=" + mHitCount + ", misses=" + mMissCount
+                + ", puts=" + mPutCount + ", evictions=" + mPool.getEvictionCount() + "}";
+    }
+
+    /**
+     * 获取Bitmap实际占用的字节数。
+     */
+    static int getAllocationBytes(@NonNull Bitmap bitmap) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT ? bitmap.getAllocationByteCount() : bitmap.getByteCount();
+    }
+
+    private static int getBytesPerPixel(Bitmap.Config config) {
+        if (config == Bitmap.Config.ALPHA_8) {
+            return 1;
+        } else if (config == Bitmap.Config.RGB_565 || config == Bitmap.Config.ARGB_4444) {
+            return 2;
+        } else {
+            return 4;
+        }
+    }
+
+    /**
+     * 匹配尺寸及格式完全相同的Bitmap。
+     */
+    private static class ExactMatcher implements SizeBucketPool.Matcher<Bitmap> {
+        private int width;
+        private int height;
+        private Bitmap.Config config;
+
+        private void set(int width, int height, Bitmap.Config config) {
+            this.width = width;
+            this.height = height;
+            this.config = config;
+        }
+
+        @Override
+        public boolean matches(@NonNull Bitmap item) {
+            return item.getConfig() == config && item.getWidth() == width && item.getHeight() == height;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.kelin.banner.image;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.os.Build;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 描述 Banner图片的解码器。
+ * <p>支持以下几种来源：
+ * <ul>
+ * <li>file:///android_asset/xxx 或 asset://xxx：assets目录中的文件。</li>
+ * <li>file:///xxx 或 /xxx：本地文件。</li>
+ * <li>content://xxx：ContentProvider提供的文件。</li>
+ * <li>android.resource://包名/资源ID：资源文件，可以通过{@link BannerImageLoader#resourceUri(Context, int)}获取。</li>
+ * </ul>
+ * 解码时会先读取图片的尺寸，再根据目标尺寸计算出2的幂次的采样率，并且对于不透明的JPEG图片使用{@link Bitmap.Config#RGB_565}。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午6:05
+ * 版本 v 1.0.0
+ */
+
+final class BannerImageDecoder {
+
+    private static final String ASSET_FILE_PREFIX = "file:///android_asset/";
+    private static final String ASSET_PREFIX = "asset://";
+    private static final String FILE_PREFIX = "file://";
+
+    private BannerImageDecoder() {
+    }
+
+    /**
+     * 判断是否支持某个来源。
+     *
+     * @param source 图片的来源。
+     * @return 如果支持则返回true，否则返回false(例如http及https地址)。
+     */
+    static boolean isSupported(@Nullable String source) {
+        if (TextUtils.isEmpty(source)) {
+            return false;
+        }
+        return source.startsWith(ASSET_PREFIX) || source.startsWith(FILE_PREFIX) || source.startsWith("/")
+                || source.startsWith(ContentResolver.SCHEME_CONTENT + "://") || source.startsWith(ContentResolver.SCHEME_ANDROID_RESOURCE + "://");
+    }
+
+    /**
+     * 解码图片。
+     *
+     * @param context   上下文。
+     * @param source    图片的来源。
+     * @param reqWidth  目标宽度，小于等于0表示不进行采样。
+     * @param reqHeight 目标高度，小于等于0表示不进行采样。
+     * @param options   解码参数，解码后可以通过{@link BitmapFactory.Options#inSampleSize}获取使用的采样率。
+     * @param pool      Bitmap复用池，为null时不复用。
+     * @return 返回解码后的图片，如果解码失败则返回null。
+     */
+    @Nullable
+    static Bitmap decode(@NonNull Context context, @NonNull String source, int reqWidth, int reqHeight, @NonNull BitmapFactory.Options options, @Nullable BannerBitmapPool pool) {
+        options.inJustDecodeBounds = true;
+        if (!decodeStream(context, source, options)) {
+            return null;
+        }
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = computeSampleSize(options.outWidth, options.outHeight, reqWidth, reqHeight);
+        options.inPreferredConfig = "image/jpeg".equals(options.outMimeType) ? Bitmap.Config.RGB_565 : Bitmap.Config.ARGB_8888;
+        if (pool != null && (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT || options.inSampleSize == 1)) {
+            //4.4以下只能复用尺寸完全相同的Bitmap并且不能采样。
+            options.inMutable = true;
+            int width = (options.outWidth + options.inSampleSize - 1) / options.inSampleSize;
+            int height = (options.outHeight + options.inSampleSize - 1) / options.inSampleSize;
+            options.inBitmap = pool.get(width, height, options.inPreferredConfig);
+        }
+        try {
+            return decodeBitmap(context, source, options);
+        } catch (IllegalArgumentException e) {
+            //无法解码到复用的Bitmap中，放回复用池后重新解码。
+            if (options.inBitmap != null) {
+                pool.put(options.inBitmap);
+                options.inBitmap = null;
+                return decodeBitmap(context, source, options);
+            }
+            return null;
+        }
+    }
+
+    @Nullable
+    private static Bitmap decodeBitmap(Context context, String source, BitmapFactory.Options options) {
+        InputStream in = null;
+        try {
+            in = openStream(context, source);
+            return in == null ? null : BitmapFactory.decodeStream(in, null, options);
+        } catch (IOException | SecurityException | OutOfMemoryError e) {
+            return null;
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    private static boolean decodeStream(Context context, String source, BitmapFactory.Options options) {
+        InputStream in = null;
+        try {
+            in = openStream(context, source);
+            if (in == null) {
+                return false;
+            }
+            BitmapFactory.decodeStream(in, null, options);
+            return options.outWidth > 0 && options.outHeight > 0;
+        } catch (IOException | SecurityException e) {
+            return false;
+        } finally {
+            closeQuietly(in);
+        }
+    }
+
+    /**
+     * 计算采样率，采样后的尺寸不会小于目标尺寸。
+     */
+    static int computeSampleSize(int width, int height, int reqWidth, int reqHeight) {
+        int sampleSize = 1;
+        if (reqWidth > 0 && reqHeight > 0) {
+            while (width / (sampleSize << 1) >= reqWidth && height / (sampleSize << 1) >= reqHeight) {
+                sampleSize <<= 1;
+            }
+        }
+        return sampleSize;
+    }
+
+    @Nullable
+    private static InputStream openStream(Context context, String source) throws IOException {
+        if (source.startsWith(ASSET_FILE_PREFIX)) {
+            return context.getAssets().open(source.substring(ASSET_FILE_PREFIX.length()));
+        } else if (source.startsWith(ASSET_PREFIX)) {
+            return context.getAssets().open(source.substring(ASSET_PREFIX.length()));
+        } else if (source.startsWith(FILE_PREFIX)) {
+            return new FileInputStream(Uri.parse(source).getPath());
+        } else if (source.startsWith("/")) {
+            return new FileInputStream(source);
+        } else if (isSupported(source)) {
+            return context.getContentResolver().openInputStream(Uri.parse(source));
+        } else {
+            return null;
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
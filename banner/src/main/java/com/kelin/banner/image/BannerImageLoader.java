@@ -0,0 +1,460 @@
+package com.kelin.banner.image;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.DisplayMetrics;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.view.ViewTreeObserver;
+import android.widget.ImageView;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.collection.LruCache;
+
+import com.kelin.banner.BannerPrefetcher;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 描述 Banner内置的图片加载器。
+ * <p>支持的图片来源见{@link BannerImageDecoder}，网络图片不在支持范围内，请使用你自己的图片框架。图片会按照ImageView测量后的尺寸进行采样解码，
+ * 解码后的图片放入一个全局的LRU内存缓存中，缓存的总大小受字节预算的限制(默认为最大可用内存的1/8)。
+ * <p>解码时会通过{@link BannerBitmapPool}复用已经不再使用的Bitmap：每张图片都记录了有多少个ImageView正在显示它，
+ * 当它既不在内存缓存中也没有任何ImageView在显示它时就会被放回复用池。
+ * <p>页面被销毁时BannerView会自动取消该页面中所有还没有完成的请求并释放页面中的图片。该加载器同时也是一个{@link BannerPrefetcher}，
+ * 可以直接通过{@link com.kelin.banner.view.BannerView#setPrefetcher(BannerPrefetcher)}设置给BannerView。
+ * <p>除{@link #getInstance(Context)}外所有的方法都只能在主线程中调用。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午6:20
+ * 版本 v 1.0.0
+ */
+
+public final class BannerImageLoader implements BannerPrefetcher {
+
+    /**
+     * 用来存放和获取ImageView当前的请求的TAG。
+     */
+    private static final int KEY_REQUEST = 0x1000_0010;
+    /**
+     * 用来存放和获取ImageView当前正在显示的图片的TAG。
+     */
+    private static final int KEY_IMAGE = 0x1000_0011;
+
+    private static volatile BannerImageLoader sInstance;
+
+    private final Context mContext;
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    private final ExecutorService mExecutor;
+    private final ImageCache mCache;
+    private final BannerBitmapPool mBitmapPool;
+    /**
+     * 所有还没有完成的请求。
+     */
+    private final ArrayList<Request> mRequests = new ArrayList<>();
+
+    private BannerImageLoader(Context context) {
+        mContext = context.getApplicationContext();
+        mCache = new ImageCache((int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 8));
+        mBitmapPool = new BannerBitmapPool((int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 16));
+        mExecutor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(@NonNull final Runnable r) {
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                        r.run();
+                    }
+                }, "BannerImageLoader");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * 获取进程内唯一的图片加载器。
+     *
+     * @param context 上下文。
+     */
+    @NonNull
+    public static BannerImageLoader getInstance(@NonNull Context context) {
+        if (sInstance == null) {
+            synchronized (BannerImageLoader.class) {
+                if (sInstance == null) {
+                    sInstance = new BannerImageLoader(context);
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    /**
+     * 获取资源文件的地址。
+     *
+     * @param context 上下文。
+     * @param resId   资源ID。
+     * @return 返回android.resource://格式的地址。
+     */
+    @NonNull
+    public static String resourceUri(@NonNull Context context, @DrawableRes int resId) {
+        return ContentResolver.SCHEME_ANDROID_RESOURCE + "://" + context.getPackageName() + "/" + resId;
+    }
+
+    /**
+     * 判断是否支持某个图片来源。
+     *
+     * @param source 图片来源。
+     */
+    public static boolean isSupported(@Nullable String source) {
+        return BannerImageDecoder.isSupported(source);
+    }
+
+    /**
+     * 加载图片并显示到ImageView中。如果ImageView还没有被测量则会等到测量完成后再开始解码。
+     *
+     * @param source 图片来源。
+     * @param target 用来显示图片的ImageView。
+     */
+    public void load(@Nullable String source, @NonNull ImageView target) {
+        cancel(target);
+        release(target);
+        target.setImageDrawable(null);
+        if (!isSupported(source)) {
+            return;
+        }
+        int width = target.getWidth() - target.getPaddingLeft() - target.getPaddingRight();
+        int height = target.getHeight() - target.getPaddingTop() - target.getPaddingBottom();
+        if (width > 0 && height > 0) {
+            CachedImage image = mCache.get(source);
+            if (image != null && image.fits(width, height)) {
+                display(target, image);
+                return;
+            }
+        }
+        Request request = new Request(source, target);
+        target.setTag(KEY_REQUEST, request);
+        mRequests.add(request);
+        if (width > 0 && height > 0) {
+            request.submit(width, height);
+        } else {
+            request.waitForSize();
+        }
+    }
+
+    /**
+     * 取消ImageView正在进行的请求。
+     *
+     * @param target 要取消请求的ImageView。
+     */
+    public void cancel(@NonNull ImageView target) {
+        Object request = target.getTag(KEY_REQUEST);
+        if (request instanceof Request) {
+            ((Request) request).cancel();
+        }
+    }
+
+    /**
+     * 将图片显示到ImageView中并增加图片的引用计数。
+     */
+    private void display(ImageView target, CachedImage image) {
+        target.setImageBitmap(image.bitmap);
+        target.setTag(KEY_IMAGE, image);
+        image.refCount++;
+    }
+
+    /**
+     * 释放ImageView正在显示的由该加载器加载的图片，如果图片已经不在内存缓存中并且没有其他ImageView在显示它则放回复用池。
+     *
+     * @param target 要释放图片的ImageView。
+     */
+    public void release(@NonNull ImageView target) {
+        Object tag = target.getTag(KEY_IMAGE);
+        if (tag instanceof CachedImage) {
+            CachedImage image = (CachedImage) tag;
+            target.setTag(KEY_IMAGE, null);
+            target.setImageDrawable(null);
+            image.refCount--;
+            recycleIfUnused(image);
+        }
+    }
+
+    private void recycleIfUnused(CachedImage image) {
+        if (image.refCount <= 0 && !image.inCache) {
+            mBitmapPool.put(image.bitmap);
+        }
+    }
+
+    /**
+     * 回收一个页面：取消页面中所有还没有完成的请求并释放页面中的图片，页面被销毁时BannerView会自动调用。
+     *
+     * @param page 页面的根View。
+     */
+    public static void recyclePage(@NonNull View page) {
+        BannerImageLoader loader = sInstance;
+        if (loader != null) {
+            for (int i = loader.mRequests.size() - 1; i >= 0; i--) {
+                Request request = loader.mRequests.get(i);
+                if (request.target != null && isDescendant(request.target, page)) {
+                    request.cancel();
+                }
+            }
+            loader.releaseImages(page);
+        }
+    }
+
+    private void releaseImages(View view) {
+        if (view instanceof ImageView) {
+            release((ImageView) view);
+        } else if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0, count = group.getChildCount(); i < count; i++) {
+                releaseImages(group.getChildAt(i));
+            }
+        }
+    }
+
+    /**
+     * 获取Bitmap复用池，可以通过它查看复用的命中率等统计数据。
+     */
+    @NonNull
+    public BannerBitmapPool getBitmapPool() {
+        return mBitmapPool;
+    }
+
+    private static boolean isDescendant(View view, View ancestor) {
+        if (view == ancestor) {
+            return true;
+        }
+        ViewParent parent = view.getParent();
+        while (parent != null) {
+            if (parent == ancestor) {
+                return true;
+            }
+            parent = parent.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * 预取图片，图片会按照屏幕的宽度及一半的屏幕宽度(常见的Banner尺寸)进行解码并放入缓存。不支持的图片来源会被忽略。
+     *
+     * @param context 上下文。
+     * @param url     图片来源。
+     */
+    @Override
+    public void prefetch(@NonNull Context context, @NonNull String url) {
+        if (!isSupported(url) || mCache.get(url) != null || findRequest(url) != null) {
+            return;
+        }
+        DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+        Request request = new Request(url, null);
+        mRequests.add(request);
+        request.submit(metrics.widthPixels, metrics.widthPixels >>> 1);
+    }
+
+    private Request findRequest(String source) {
+        for (int i = 0, size = mRequests.size(); i < size; i++) {
+            Request request = mRequests.get(i);
+            if (request.target == null && request.source.equals(source)) {
+                return request;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 设置内存缓存的字节预算，超出预算时最近最少使用的图片会被移除。
+     *
+     * @param maxBytes 字节预算。
+     */
+    public void setMaxCacheBytes(int maxBytes) {
+        mCache.resize(Math.max(1, maxBytes));
+    }
+
+    /**
+     * 获取内存缓存的字节预算。
+     */
+    public int getMaxCacheBytes() {
+        return mCache.maxSize();
+    }
+
+    /**
+     * 获取内存缓存当前占用的字节数。
+     */
+    public int getCacheBytes() {
+        return mCache.size();
+    }
+
+    /**
+     * 将内存缓存缩减到指定的字节数。
+     *
+     * @param maxBytes 缩减后最多占用的字节数。
+     * @return 返回被释放的字节数。
+     */
+    public int trimCache(int maxBytes) {
+        int size = mCache.size();
+        mCache.trimToSize(Math.max(0, maxBytes));
+        return size - mCache.size();
+    }
+
+    /**
+     * 清空内存缓存。
+     *
+     * @return 返回被释放的字节数。
+     */
+    public int clearCache() {
+        int size = mCache.size();
+        mCache.evictAll();
+        return size;
+    }
+
+    /**
+     * 清空内存缓存及Bitmap复用池，收到内存不足的通知时BannerView会自动调用。正在显示的图片不会被回收，只是不再被缓存。
+     *
+     * @return 返回被释放的字节数(不包括依然在显示的图片)，如果加载器还没有被创建则返回0。
+     */
+    public static int releaseMemory() {
+        BannerImageLoader loader = sInstance;
+        if (loader == null) {
+            return 0;
+        }
+        //先清空缓存，这样没有被显示的图片会先进入复用池再被一起释放。
+        loader.clearCache();
+        return loader.mBitmapPool.clear();
+    }
+
+    private static class CachedImage {
+        private final Bitmap bitmap;
+        private final int sampleSize;
+        /**
+         * 正在显示该图片的ImageView的数量，只在主线程中访问。
+         */
+        private int refCount;
+        /**
+         * 是否还在内存缓存中。
+         */
+        private boolean inCache = true;
+
+        private CachedImage(Bitmap bitmap, int sampleSize) {
+            this.bitmap = bitmap;
+            this.sampleSize = sampleSize;
+        }
+
+        /**
+         * 判断该图片是否可以用来显示到指定尺寸的ImageView中，没有进行过采样或者尺寸不小于目标尺寸时都可以使用。
+         */
+        private boolean fits(int width, int height) {
+            return sampleSize == 1 || (bitmap.getWidth() >= width && bitmap.getHeight() >= height);
+        }
+    }
+
+    private class ImageCache extends LruCache<String, CachedImage> {
+
+        private ImageCache(int maxSize) {
+            super(maxSize);
+        }
+
+        @Override
+        protected int sizeOf(@NonNull String key, @NonNull CachedImage value) {
+            return BannerBitmapPool.getAllocationBytes(value.bitmap);
+        }
+
+        @Override
+        protected void entryRemoved(boolean evicted, @NonNull String key, @NonNull CachedImage oldValue, @Nullable CachedImage newValue) {
+            oldValue.inCache = false;
+            recycleIfUnused(oldValue);
+        }
+    }
+
+    private class Request implements Runnable, ViewTreeObserver.OnPreDrawListener {
+        private final String source;
+        private final ImageView target;
+        private int reqWidth;
+        private int reqHeight;
+        private Future<?> future;
+        private volatile boolean cancelled;
+
+        private Request(String source, ImageView target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        private void submit(int width, int height) {
+            reqWidth = width;
+            reqHeight = height;
+            future = mExecutor.submit(this);
+        }
+
+        private void waitForSize() {
+            target.getViewTreeObserver().addOnPreDrawListener(this);
+        }
+
+        @Override
+        public boolean onPreDraw() {
+            int width = target.getWidth() - target.getPaddingLeft() - target.getPaddingRight();
+            int height = target.getHeight() - target.getPaddingTop() - target.getPaddingBottom();
+            if (width > 0 && height > 0) {
+                target.getViewTreeObserver().removeOnPreDrawListener(this);
+                if (!cancelled) {
+                    submit(width, height);
+                }
+            }
+            return true;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            mRequests.remove(this);
+            if (future != null) {
+                future.cancel(false);
+            } else if (target != null) {
+                target.getViewTreeObserver().removeOnPreDrawListener(this);
+            }
+            if (target != null && target.getTag(KEY_REQUEST) == this) {
+                target.setTag(KEY_REQUEST, null);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            final BitmapFactory.Options options = new BitmapFactory.Options();
+            final Bitmap bitmap = BannerImageDecoder.decode(mContext, source, reqWidth, reqHeight, options, mBitmapPool);
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    deliver(bitmap, options.inSampleSize);
+                }
+            });
+        }
+
+        private void deliver(Bitmap bitmap, int sampleSize) {
+            mRequests.remove(this);
+            if (bitmap == null) {
+                return;
+            }
+            CachedImage image = new CachedImage(bitmap, sampleSize);
+            if (!cancelled && target != null && target.getTag(KEY_REQUEST) == this) {
+                target.setTag(KEY_REQUEST, null);
+                //必须先显示再放入缓存，否则比整个缓存的预算还要大的图片会在放入时就被移除并放回复用池。
+                display(target, image);
+            }
+            mCache.put(source, image);
+        }
+    }
+}
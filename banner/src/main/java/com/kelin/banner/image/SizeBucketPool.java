@@ -0,0 +1,193 @@
+package com.kelin.banner.image;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * 描述 {@link BannerBitmapPool}的分桶及预算逻辑。
+ * <p>对象按照占用的字节数以2的幂次分桶存放，第n个桶存放(2^(n-1), 2^n]字节的对象。总大小超出预算时最早放入的对象会被丢弃。
+ * 该类与Bitmap无关，所以可以在JVM中测试；它不是线程安全的，由{@link BannerBitmapPool}负责同步。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午11:55
+ * 版本 v 1.0.0
+ *
+ * @param <T> 池中对象的类型，必须使用默认的(基于地址的)equals及hashCode。
+ */
+
+abstract class SizeBucketPool<T> {
+
+    /**
+     * 桶的数量，int能够表示的字节数都在前32个桶中。
+     */
+    private static final int BUCKET_COUNT = 32;
+
+    /**
+     * 按字节数分桶存放的对象，每个桶中后放入的在后面。
+     */
+    private final ArrayList<T>[] mBuckets;
+    /**
+     * 所有对象放入的顺序，用来在超出预算时丢弃最早放入的对象。
+     */
+    private final LinkedHashSet<T> mOrder = new LinkedHashSet<>();
+    private int mMaxSize;
+    private int mSize;
+    private int mEvictionCount;
+
+    @SuppressWarnings("unchecked")
+    SizeBucketPool(int maxSize) {
+        mBuckets = (ArrayList<T>[]) new ArrayList[BUCKET_COUNT];
+        mMaxSize = Math.max(0, maxSize);
+    }
+
+    /**
+     * 获取对象占用的字节数，对象在池中时该值不能改变。
+     */
+    abstract int getBytes(@NonNull T item);
+
+    /**
+     * 获取一个至少占用bytes字节的对象。先在bytes所在的桶中查找，没有时再到下一个桶中查找，下一个桶中的对象一定足够大，
+     * 但最多只会浪费一倍的内存。
+     *
+     * @param bytes 需要的字节数。
+     * @return 如果找到则从池中移除并返回，否则返回null。
+     */
+    @Nullable
+    T get(int bytes) {
+        int bucket = getBucket(bytes);
+        T item = take(bucket, bytes, null);
+        if (item == null && bucket + 1 < BUCKET_COUNT) {
+            item = take(bucket + 1, bytes, null);
+        }
+        return item;
+    }
+
+    /**
+     * 在bytes所在的桶中获取一个与matcher完全匹配的对象。
+     *
+     * @param bytes   需要的字节数。
+     * @param matcher 用来判断对象是否匹配。
+     * @return 如果找到则从池中移除并返回，否则返回null。
+     */
+    @Nullable
+    T getExact(int bytes, @NonNull Matcher<T> matcher) {
+        return take(getBucket(bytes), bytes, matcher);
+    }
+
+    private T take(int bucket, int bytes, Matcher<T> matcher) {
+        ArrayList<T> items = mBuckets[bucket];
+        if (items != null) {
+            //优先使用最近放入的对象。
+            for (int i = items.size() - 1; i >= 0; i--) {
+                T item = items.get(i);
+                if (matcher == null ? getBytes(item) >= bytes : matcher.matches(item)) {
+                    items.remove(i);
+                    mOrder.remove(item);
+                    mSize -= getBytes(item);
+                    return item;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 将一个对象放入池中，超出预算时丢弃最早放入的对象。
+     *
+     * @param item 要放入的对象。
+     * @return 如果成功放入则返回true；对象本身超出预算或者已经在池中时返回false。
+     */
+    boolean put(@NonNull T item) {
+        int bytes = getBytes(item);
+        if (bytes > mMaxSize || mOrder.contains(item)) {
+            return false;
+        }
+        int bucket = getBucket(bytes);
+        ArrayList<T> items = mBuckets[bucket];
+        if (items == null) {
+            items = new ArrayList<>();
+            mBuckets[bucket] = items;
+        }
+        items.add(item);
+        mOrder.add(item);
+        mSize += bytes;
+        trimToSize(mMaxSize);
+        return true;
+    }
+
+    private void trimToSize(int maxSize) {
+        Iterator<T> iterator = mOrder.iterator();
+        while (mSize > maxSize && iterator.hasNext()) {
+            T item = iterator.next();
+            iterator.remove();
+            int bytes = getBytes(item);
+            mBuckets[getBucket(bytes)].remove(item);
+            mSize -= bytes;
+            mEvictionCount++;
+        }
+    }
+
+    void setMaxSize(int maxSize) {
+        mMaxSize = Math.max(0, maxSize);
+        trimToSize(mMaxSize);
+    }
+
+    int getMaxSize() {
+        return mMaxSize;
+    }
+
+    int getSize() {
+        return mSize;
+    }
+
+    /**
+     * 获取池中对象的数量。
+     */
+    int getCount() {
+        return mOrder.size();
+    }
+
+    /**
+     * 清空池。
+     *
+     * @return 返回被释放的字节数。
+     */
+    int clear() {
+        int size = mSize;
+        mEvictionCount += mOrder.size();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            mBuckets[i] = null;
+        }
+        mOrder.clear();
+        mSize = 0;
+        return size;
+    }
+
+    /**
+     * 获取对象因为超出预算或被清空而被丢弃的次数。
+     */
+    int getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    void resetEvictionCount() {
+        mEvictionCount = 0;
+    }
+
+    /**
+     * 获取字节数所在的桶，第n个桶存放(2^(n-1), 2^n]字节的对象，0及1字节在第0个桶中。
+     */
+    static int getBucket(int bytes) {
+        return bytes <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(bytes - 1);
+    }
+
+    /**
+     * 用来判断对象是否完全匹配。
+     */
+    interface Matcher<T> {
+        boolean matches(@NonNull T item);
+    }
+}
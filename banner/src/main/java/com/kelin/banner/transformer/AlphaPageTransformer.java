@@ -1,8 +1,9 @@
 package com.kelin.banner.transformer;
 
-import androidx.viewpager.widget.ViewPager;
 import android.view.View;
 
+import androidx.annotation.NonNull;
+
 /**
  * 描述 透明转场动画。
  * 创建人 kelin
@@ -10,27 +11,31 @@ import android.view.View;
  * 版本 v 1.0.0
  */
 
-public class AlphaPageTransformer implements ViewPager.PageTransformer {
+public class AlphaPageTransformer extends BasePageTransformer {
+    public AlphaPageTransformer() {
+        setAlphaStrategy(ALPHA_STRATEGY_LAYER);
+    }
 
-    public void transformPage(View view, float position) {
+    @Override
+    protected void onTransform(@NonNull View view, float position, @NonNull PageProperties properties) {
         int pageWidth = view.getWidth();
 
         if (position < -1) { // [-Infinity,-1)
             // This page is way off-screen to the left.
-            view.setAlpha(0);
+            properties.setAlpha(0);
         } else if (position <= 0) { // [-1,0]
             // Use the default slide transition when moving to the left page
-            view.setAlpha(1 + position);
-            view.setTranslationX(pageWidth * -position);
+            properties.setAlpha(1 + position);
+            properties.setTranslationX(pageWidth * -position);
         } else if (position <= 1) { // (0,1]
             // Fade the page out.
-            view.setAlpha(1 - position);
+            properties.setAlpha(1 - position);
 
             // Counteract the default slide transition
-            view.setTranslationX(pageWidth * -position);
+            properties.setTranslationX(pageWidth * -position);
 
         } else { // (1,+Infinity]
-            view.setAlpha(0);
+            properties.setAlpha(0);
         }
     }
 }
@@ -0,0 +1,258 @@
+package com.kelin.banner.transformer;
+
+import android.os.Build;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 描述 翻页动画的基类。
+ * <p>子类只需要在{@link #onTransform(View, float, PageProperties)}中把需要设置的属性写入{@link PageProperties}，基类会记录每个页面最近一次被写入的属性，
+ * 只有改变了的属性才会被真正写入页面。位置超出{@link #BasePageTransformer(float, float)}指定范围的页面的属性被认为是固定的，
+ * 所以这样的页面只有在第一次超出范围或尺寸改变时才会计算一次，之后直接跳过。
+ * 默认在翻页期间为可见的页面使用{@link View#LAYER_TYPE_HARDWARE}，如果子类会改变页面内部的内容则应当覆盖{@link #getPageLayerType()}。
+ * <p>改变透明度的翻页动画可以通过{@link #setAlphaStrategy(int)}避免半透明的页面每一帧都需要绘制到一个临时的离屏缓冲中。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午8:30
+ * 版本 v 1.0.0
+ */
+
+public abstract class BasePageTransformer implements LayeredPageTransformer {
+
+    /**
+     * 用来存放和获取页面最近一次被写入的属性的TAG。
+     */
+    private static final int KEY_APPLIED_STATE = 0x1000_0020;
+    /**
+     * 用来标记页面因为半透明而持有硬件图层的TAG。
+     */
+    private static final int KEY_ALPHA_LAYER = 0x1000_0021;
+    /**
+     * 用来标记页面因为半透明而被声明为没有重叠内容的TAG。
+     */
+    private static final int KEY_NO_OVERLAPPING = 0x1000_0022;
+    /**
+     * 透明度策略：直接设置页面的透明度，页面中有重叠的子View时每一帧都需要先绘制到离屏缓冲中。
+     */
+    public static final int ALPHA_STRATEGY_DEFAULT = 0;
+    /**
+     * 透明度策略：页面半透明期间为页面持有一个硬件图层，透明度的改变只需要重新合成图层，完全不透明或完全透明后释放图层。
+     * 图层只在翻页期间并且允许使用页面图层时持有，见{@link #setAlphaLayerEnable(boolean)}。
+     */
+    public static final int ALPHA_STRATEGY_LAYER = 1;
+    /**
+     * 透明度策略：在Android 7.0及以上声明页面没有重叠的内容，透明度会直接作用到每一个子View上，不需要离屏缓冲也不需要图层，
+     * 但是子View重叠的部分会透出下面的内容；7.0以下使用{@link #ALPHA_STRATEGY_LAYER}。
+     */
+    public static final int ALPHA_STRATEGY_NO_OVERLAPPING = 2;
+
+    private final float mMinPosition;
+    private final float mMaxPosition;
+    /**
+     * 用来收集每一次变换的属性，transformPage只会在主线程中调用，所以所有的页面可以共用同一个对象。
+     */
+    private final PageProperties mProperties = new PageProperties();
+    private int mAlphaStrategy = ALPHA_STRATEGY_DEFAULT;
+    private boolean mAlphaLayerEnable = true;
+
+    /**
+     * 构造一个只在[-1, 1]范围内改变页面的翻页动画。
+     */
+    protected BasePageTransformer() {
+        this(-1, 1);
+    }
+
+    /**
+     * 构造翻页动画。
+     *
+     * @param minPosition 页面属性会随位置改变的最小位置，小于该位置的页面的属性是固定的，没有限制时为{@link Float#NEGATIVE_INFINITY}。
+     * @param maxPosition 页面属性会随位置改变的最大位置，大于该位置的页面的属性是固定的，没有限制时为{@link Float#POSITIVE_INFINITY}。
+     */
+    protected BasePageTransformer(float minPosition, float maxPosition) {
+        mMinPosition = minPosition;
+        mMaxPosition = maxPosition;
+    }
+
+    @Override
+    public final void transformPage(@NonNull View page, float position) {
+        Object tag = page.getTag(KEY_APPLIED_STATE);
+        AppliedState state;
+        if (tag instanceof AppliedState) {
+            state = (AppliedState) tag;
+        } else {
+            state = new AppliedState();
+            page.setTag(KEY_APPLIED_STATE, state);
+        }
+        int alphaStrategy = getAppliedAlphaStrategy();
+        if (state.owner != this) {
+            //页面之前是由其他的翻页动画改变的，记录的属性不能作为参考。
+            state.owner = this;
+            state.properties.reset();
+            state.outOfRange = 0;
+            state.alphaStrategy = alphaStrategy;
+            releaseAlphaLayer(page);
+        } else if (state.alphaStrategy != alphaStrategy) {
+            //透明度策略改变了(包括图层被禁用或重新启用)，之前的策略留下的图层或标记需要先清除。
+            state.alphaStrategy = alphaStrategy;
+            releaseAlphaLayer(page);
+        }
+        int outOfRange = position < mMinPosition ? -1 : position > mMaxPosition ? 1 : 0;
+        int width = page.getWidth();
+        int height = page.getHeight();
+        if (outOfRange != 0 && outOfRange == state.outOfRange && width == state.width && height == state.height) {
+            return;
+        }
+        state.outOfRange = outOfRange;
+        state.width = width;
+        state.height = height;
+        mProperties.reset();
+        onTransform(page, position, mProperties);
+        mProperties.applyTo(page, state.properties);
+        if (alphaStrategy != ALPHA_STRATEGY_DEFAULT) {
+            applyAlphaStrategy(page, state.properties.getAlpha(), alphaStrategy);
+        }
+    }
+
+    /**
+     * 获取实际使用的透明度策略：7.0以下的{@link #ALPHA_STRATEGY_NO_OVERLAPPING}使用{@link #ALPHA_STRATEGY_LAYER}，
+     * 图层被{@link #setAlphaLayerEnable(boolean)}禁用时{@link #ALPHA_STRATEGY_LAYER}退回到{@link #ALPHA_STRATEGY_DEFAULT}。
+     */
+    private int getAppliedAlphaStrategy() {
+        if (mAlphaStrategy == ALPHA_STRATEGY_NO_OVERLAPPING && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            return ALPHA_STRATEGY_NO_OVERLAPPING;
+        }
+        return mAlphaStrategy == ALPHA_STRATEGY_DEFAULT || !mAlphaLayerEnable ? ALPHA_STRATEGY_DEFAULT : ALPHA_STRATEGY_LAYER;
+    }
+
+    private void applyAlphaStrategy(View page, float alpha, int alphaStrategy) {
+        boolean translucent = alpha > 0 && alpha < 1;
+        if (alphaStrategy == ALPHA_STRATEGY_NO_OVERLAPPING) {
+            //只有半透明时才会用到，所以设置一次就可以了。
+            if (translucent && page.hasOverlappingRendering()) {
+                page.setTag(KEY_NO_OVERLAPPING, Boolean.TRUE);
+                page.forceHasOverlappingRendering(false);
+            }
+        } else if (translucent) {
+            page.setTag(KEY_ALPHA_LAYER, Boolean.TRUE);
+            //ViewPager在滚动状态改变时会重新设置所有页面的图层类型，所以不能只在第一次半透明时设置。
+            if (page.getLayerType() != View.LAYER_TYPE_HARDWARE) {
+                page.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+            }
+        } else {
+            releaseAlphaLayer(page);
+        }
+    }
+
+    /**
+     * 释放页面因为半透明而持有的硬件图层并恢复页面的重叠内容声明，更换翻页动画或透明度策略时会自动调用。
+     *
+     * @param page 页面。
+     */
+    public static void releaseAlphaLayer(@NonNull View page) {
+        if (page.getTag(KEY_ALPHA_LAYER) != null) {
+            page.setTag(KEY_ALPHA_LAYER, null);
+            page.setLayerType(View.LAYER_TYPE_NONE, null);
+        }
+        if (page.getTag(KEY_NO_OVERLAPPING) != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            page.setTag(KEY_NO_OVERLAPPING, null);
+            //只有页面原本有重叠的内容时才会被改为没有，所以恢复为有。
+            page.forceHasOverlappingRendering(true);
+        }
+    }
+
+    /**
+     * 页面因为半透明而持有硬件图层时，确保图层依然存在。ViewPager在滚动状态改变时会把所有页面的图层类型重置，
+     * BannerView在滚动状态改变后会调用该方法把半透明页面的图层恢复回来。
+     *
+     * @param page 页面。
+     */
+    public static void restoreAlphaLayer(@NonNull View page) {
+        if (page.getTag(KEY_ALPHA_LAYER) != null && page.getLayerType() != View.LAYER_TYPE_HARDWARE) {
+            page.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+        }
+    }
+
+    /**
+     * 判断页面是否因为半透明而持有硬件图层。
+     *
+     * @param page 页面。
+     */
+    public static boolean isHoldingAlphaLayer(@NonNull View page) {
+        return page.getTag(KEY_ALPHA_LAYER) != null;
+    }
+
+    /**
+     * 设置透明度策略。
+     *
+     * @param strategy {@link #ALPHA_STRATEGY_DEFAULT}、{@link #ALPHA_STRATEGY_LAYER}或{@link #ALPHA_STRATEGY_NO_OVERLAPPING}。
+     */
+    public void setAlphaStrategy(int strategy) {
+        mAlphaStrategy = strategy;
+    }
+
+    public int getAlphaStrategy() {
+        return mAlphaStrategy;
+    }
+
+    /**
+     * 设置是否允许{@link #ALPHA_STRATEGY_LAYER}为半透明的页面持有硬件图层，不允许时退回到{@link #ALPHA_STRATEGY_DEFAULT}，
+     * 已经持有的图层会在页面下一次变换时释放。BannerView只在翻页期间并且{@link com.kelin.banner.view.BannerView#setPageLayerEnable(boolean)}
+     * 允许时才会开启，所以停止滚动后或者关闭了页面图层后半透明的页面不会再占用图层。
+     *
+     * @param enable true表示允许，false表示不允许。
+     */
+    public void setAlphaLayerEnable(boolean enable) {
+        mAlphaLayerEnable = enable;
+    }
+
+    public boolean isAlphaLayerEnable() {
+        return mAlphaLayerEnable;
+    }
+
+    /**
+     * 计算页面的属性。
+     *
+     * @param page       需要执行动画的View。
+     * @param position   相对于当前页的位置，0为当前页，1为右边一个完整页面的位置，-1为左边一个完整页面的位置。
+     * @param properties 用来写入属性的对象，没有写入的属性保持不变。
+     */
+    protected abstract void onTransform(@NonNull View page, float position, @NonNull PageProperties properties);
+
+    float getMinPosition() {
+        return mMinPosition;
+    }
+
+    float getMaxPosition() {
+        return mMaxPosition;
+    }
+
+    /**
+     * 获取翻页动画最多会把本来不与当前页相邻(位置超出[-1, 1])的页面朝当前页平移多少个页面的宽度。
+     * BannerView根据它计算需要保留的离屏页面的数量，平移后有可能被看到的页面必须提前创建，否则会在翻页结束时突然出现。
+     *
+     * @return 平移的页面数量，默认为0，即只会在相邻页面的范围内平移。
+     */
+    public float getMaxTranslationPages() {
+        return 0;
+    }
+
+    @Override
+    public int getPageLayerType() {
+        return View.LAYER_TYPE_HARDWARE;
+    }
+
+    private static class AppliedState {
+        private final PageProperties properties = new PageProperties();
+        private BasePageTransformer owner;
+        /**
+         * 最近一次变换时页面是否超出了范围，-1为超出左边，1为超出右边，0为没有超出。
+         */
+        private int outOfRange;
+        /**
+         * 最近一次变换时使用的透明度策略。
+         */
+        private int alphaStrategy;
+        private int width;
+        private int height;
+    }
+}
@@ -1,11 +1,9 @@
 package com.kelin.banner.transformer;
 
-import android.annotation.SuppressLint;
-import androidx.viewpager.widget.ViewPager;
-
-import android.util.Log;
 import android.view.View;
 
+import androidx.annotation.NonNull;
+
 /**
  * **描述:** 缩放动画，收集于CSDN。
  * <p>
@@ -15,7 +13,7 @@ import android.view.View;
  * <p>
  * **版本:** v 1.0.0
  */
-public class CardPageTransformer implements ViewPager.PageTransformer {
+public class CardPageTransformer extends BasePageTransformer {
     /**
      * 偏移量
      */
@@ -29,31 +27,37 @@ public class CardPageTransformer implements ViewPager.PageTransformer {
      * @param mScaleOffset 缩放偏移量 单位 px
      */
     public CardPageTransformer(int mScaleOffset) {
+        //右边的页面会叠放在当前页的下面，所以右边的页面无论多远都需要计算。
+        super(-1, Float.POSITIVE_INFINITY);
         this.mScaleOffset = mScaleOffset;
     }
 
-    @SuppressLint("NewApi")
-    public void transformPage(View page, float position) {
+    @Override
+    protected void onTransform(@NonNull View page, float position, @NonNull PageProperties properties) {
         if (position < -1) {
-            page.setTranslationX(0);
-            page.setRotation(0);
+            properties.setTranslationX(0);
+            properties.setRotation(0);
         } else if (position <= 0.0f) {//被滑动的那页 position 是-下标~ 0
             //旋转角度 45° * -0.1 = -4.5°
-            page.setRotation((45 * position));
+            properties.setRotation((45 * position));
             //X轴偏移 li: 300/3 * -0.1 = -10
-            page.setTranslationX((page.getWidth() / 3F * position));
+            properties.setTranslationX((page.getWidth() / 3F * position));
         } else {
             //缩放比例
-            page.setTranslationX(0);
-            page.setRotation(0);
+            properties.setRotation(0);
             float scale = (page.getWidth() - mScaleOffset * position) / (float) (page.getWidth());
             if (scale < 0) {
                 scale = 0;
             }
-            page.setScaleX(scale);
-            page.setScaleY(scale);
-            page.setTranslationX((-page.getWidth() * position));
-            page.setTranslationY((mScaleOffset * 0.8f) * position);
+            properties.setScale(scale);
+            properties.setTranslationX((-page.getWidth() * position));
+            properties.setTranslationY((mScaleOffset * 0.8f) * position);
         }
     }
+
+    @Override
+    public float getMaxTranslationPages() {
+        //右边的页面都被平移到当前页的下面，至少要保留当前页下面紧挨着的那一张，否则它会在翻页结束时才出现。
+        return 1;
+    }
 }
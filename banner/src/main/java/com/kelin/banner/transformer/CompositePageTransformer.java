@@ -0,0 +1,96 @@
+package com.kelin.banner.transformer;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 描述 将多个翻页效果组合在一起的翻页动画。
+ * <p>每个页面每一帧只会进行一次范围判断及脏检查，各个效果计算出的属性会先被合并再一次性写入页面，所以每个属性最多只会被设置一次：
+ * 缩放及透明度相乘，平移、旋转及Z轴高度相加，旋转及缩放中心以后面的效果为准。
+ * 只要有一个效果不使用图层(例如{@link ScrollPaintingPageTransformer})整个组合就不使用图层。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午9:30
+ * 版本 v 1.0.0
+ */
+
+public class CompositePageTransformer extends BasePageTransformer {
+
+    private final BasePageTransformer[] mEffects;
+    /**
+     * 用来收集单个效果计算出的属性。
+     */
+    private final PageProperties mEffectProperties = new PageProperties();
+    private final int mLayerType;
+
+    /**
+     * 组合多个翻页效果。
+     *
+     * @param effects 要组合的效果，按照顺序计算。
+     */
+    public CompositePageTransformer(@NonNull BasePageTransformer... effects) {
+        super(getMinPosition(effects), getMaxPosition(effects));
+        mEffects = effects.clone();
+        int layerType = View.LAYER_TYPE_SOFTWARE;
+        for (BasePageTransformer effect : mEffects) {
+            int type = effect.getPageLayerType();
+            if (type == View.LAYER_TYPE_NONE) {
+                layerType = View.LAYER_TYPE_NONE;
+                break;
+            } else if (type == View.LAYER_TYPE_HARDWARE) {
+                layerType = View.LAYER_TYPE_HARDWARE;
+            }
+        }
+        mLayerType = layerType;
+        //透明度是合并后才设置的，所以使用第一个指定了透明度策略的效果的策略。
+        for (BasePageTransformer effect : mEffects) {
+            if (effect.getAlphaStrategy() != ALPHA_STRATEGY_DEFAULT) {
+                setAlphaStrategy(effect.getAlphaStrategy());
+                break;
+            }
+        }
+    }
+
+    private static float getMinPosition(BasePageTransformer[] effects) {
+        if (effects.length == 0) {
+            throw new IllegalArgumentException("At least one effect is required!");
+        }
+        float min = Float.POSITIVE_INFINITY;
+        for (BasePageTransformer effect : effects) {
+            min = Math.min(min, effect.getMinPosition());
+        }
+        return min;
+    }
+
+    private static float getMaxPosition(BasePageTransformer[] effects) {
+        float max = Float.NEGATIVE_INFINITY;
+        for (BasePageTransformer effect : effects) {
+            max = Math.max(max, effect.getMaxPosition());
+        }
+        return max;
+    }
+
+    @Override
+    protected void onTransform(@NonNull View page, float position, @NonNull PageProperties properties) {
+        for (BasePageTransformer effect : mEffects) {
+            mEffectProperties.reset();
+            effect.onTransform(page, position, mEffectProperties);
+            properties.merge(mEffectProperties);
+        }
+    }
+
+    @Override
+    public float getMaxTranslationPages() {
+        //平移是相加的，所以能够平移的距离也是相加的。
+        float pages = 0;
+        for (BasePageTransformer effect : mEffects) {
+            pages += effect.getMaxTranslationPages();
+        }
+        return pages;
+    }
+
+    @Override
+    public int getPageLayerType() {
+        return mLayerType;
+    }
+}
@@ -1,8 +1,9 @@
 package com.kelin.banner.transformer;
 
-import androidx.viewpager.widget.ViewPager;
 import android.view.View;
 
+import androidx.annotation.NonNull;
+
 /**
  * 描述 ViewPager的翻页动画，这里的代码是从Google官方的文档中拷贝过来的。
  * 创建人 kelin
@@ -10,39 +11,42 @@ import android.view.View;
  * 版本 v 1.0.0
  */
 
-public class DepthPageTransformer implements ViewPager.PageTransformer {
+public class DepthPageTransformer extends BasePageTransformer {
     private static final float MIN_SCALE = 0.75f;
 
-    public void transformPage(View view, float position) {
+    public DepthPageTransformer() {
+        setAlphaStrategy(ALPHA_STRATEGY_LAYER);
+    }
+
+    @Override
+    protected void onTransform(@NonNull View view, float position, @NonNull PageProperties properties) {
         int pageWidth = view.getWidth();
 
         if (position < -1) { // [-Infinity,-1)
             // This page is way off-screen to the left.
-            view.setAlpha(0);
+            properties.setAlpha(0);
 
         } else if (position <= 0) { // [-1,0]
             // Use the default slide transition when moving to the left page
-            view.setAlpha(1);
-            view.setTranslationX(0);
-            view.setScaleX(1);
-            view.setScaleY(1);
+            properties.setAlpha(1);
+            properties.setTranslationX(0);
+            properties.setScale(1);
 
         } else if (position <= 1) { // (0,1]
             // Fade the page out.
-            view.setAlpha(1 - position);
+            properties.setAlpha(1 - position);
 
             // Counteract the default slide transition
-            view.setTranslationX(pageWidth * -position);
+            properties.setTranslationX(pageWidth * -position);
 
             // Scale the page down (between MIN_SCALE and 1)
             float scaleFactor = MIN_SCALE
                     + (1 - MIN_SCALE) * (1 - Math.abs(position));
-            view.setScaleX(scaleFactor);
-            view.setScaleY(scaleFactor);
+            properties.setScale(scaleFactor);
 
         } else { // (1,+Infinity]
             // This page is way off-screen to the right.
-            view.setAlpha(0);
+            properties.setAlpha(0);
         }
     }
 }
@@ -3,7 +3,6 @@ package com.kelin.banner.transformer;
 import android.os.Build;
 import androidx.annotation.NonNull;
 import androidx.annotation.RequiresApi;
-import androidx.viewpager.widget.ViewPager;
 import android.view.View;
 
 /**
@@ -16,18 +15,28 @@ import android.view.View;
  * **版本:** v 1.0.0
  */
 @RequiresApi(api = Build.VERSION_CODES.LOLLIPOP)
-public class GalleryTransformer implements ViewPager.PageTransformer {
+public class GalleryTransformer extends BasePageTransformer {
+
+    public GalleryTransformer() {
+        //两边的页面也是可见的，所以任何位置都需要计算。
+        super(Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY);
+    }
 
     @Override
-    public void transformPage(@NonNull View page, float position) {
+    protected void onTransform(@NonNull View page, float position, @NonNull PageProperties properties) {
         float scaleValue = 1 - Math.abs(position) * 0.3F;
-        page.setScaleX(scaleValue);
-        page.setScaleY(scaleValue);
-        page.setAlpha(scaleValue);
+        properties.setScale(scaleValue);
+        properties.setAlpha(scaleValue);
         //设置缩放的x轴中心点
-        page.setPivotX(page.getWidth() * (1 - position - (position > 0 ? 1 : -1) * 0.75f) * 0.5f);
+        properties.setPivotX(page.getWidth() * (1 - position - (position > 0 ? 1 : -1) * 0.75f) * 0.5f);
         //设置缩放的y轴中心点
-        page.setPivotY(page.getHeight() / 2.0F);
-        page.setElevation(position > -0.25 && position < 0.25 ? 1 : 0);
+        properties.setPivotY(page.getHeight() / 2.0F);
+        properties.setElevation(position > -0.25 && position < 0.25 ? 1 : 0);
+    }
+
+    @Override
+    public float getMaxTranslationPages() {
+        //缩放中心在页面靠近当前页的一侧以外，所以缩小后的页面会向当前页靠拢，位置为2的页面大约会靠近半个页面。
+        return 1;
     }
 }
@@ -0,0 +1,506 @@
+package com.kelin.banner.transformer;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * 描述 基于关键帧的翻页动画。
+ * <p>每个属性都被描述为一条关于位置的曲线({@link Curve}或者分段线性的关键帧)，创建时会在指定的位置范围内(默认为[-1, 1])按照固定的间隔
+ * 采样成一张float表，翻页时每个设置了的属性只需要一次查表及一次线性插值，没有设置的属性没有任何开销。
+ * 查表的开销是固定的，与曲线本身的复杂程度无关，所以适合复杂的或者由设计稿给出的曲线；对于库中自带的那些只有几次乘法的简单公式，
+ * 查表反而比手写的翻页动画慢(见androidTest中的KeyframePageTransformerBenchmark)，它们的价值在于可以用声明的方式组合出新的效果。
+ * 超出范围的位置使用{@link Builder#outside(int, float, float)}指定的值，没有指定时使用范围边缘的值。
+ * 平移及旋转中心以页面的尺寸为单位，所以同一个翻页动画可以用在不同尺寸的页面上。
+ * <p>{@link #alpha()}、{@link #depth()}、{@link #zoomOut()}、{@link #centerBig(float)}及{@link #gallery()}提供了与库中自带的翻页动画相同的效果。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午9:00
+ * 版本 v 1.0.0
+ */
+
+public class KeyframePageTransformer extends BasePageTransformer {
+
+    /**
+     * 横向缩放比例。
+     */
+    public static final int SCALE_X = 0;
+    /**
+     * 纵向缩放比例。
+     */
+    public static final int SCALE_Y = 1;
+    /**
+     * 透明度。
+     */
+    public static final int ALPHA = 2;
+    /**
+     * 旋转角度。
+     */
+    public static final int ROTATION = 3;
+    /**
+     * 横向平移，以页面的宽度为单位。
+     */
+    public static final int TRANSLATION_X = 4;
+    /**
+     * 横向平移，以页面的高度为单位，会与{@link #TRANSLATION_X}相加。
+     */
+    public static final int TRANSLATION_X_BY_HEIGHT = 5;
+    /**
+     * 纵向平移，以页面的高度为单位。
+     */
+    public static final int TRANSLATION_Y = 6;
+    /**
+     * 横向的旋转及缩放中心，以页面的宽度为单位。
+     */
+    public static final int PIVOT_X = 7;
+    /**
+     * 纵向的旋转及缩放中心，以页面的高度为单位。
+     */
+    public static final int PIVOT_Y = 8;
+    /**
+     * Z轴高度，单位：像素，只在Android 5.0及以上生效。
+     */
+    public static final int ELEVATION = 9;
+    private static final int PROPERTY_COUNT = 10;
+    /**
+     * 默认每个单位的位置采样的次数。
+     */
+    public static final int DEFAULT_SAMPLES_PER_UNIT = 64;
+
+    private final float mMinPosition;
+    private final float mMaxPosition;
+    /**
+     * 位置到表格索引的比例。
+     */
+    private final float mIndexScale;
+    /**
+     * 每个属性的采样表，没有设置的属性为null。
+     */
+    private final float[][] mTables;
+    /**
+     * 设置了曲线的属性，升序排列，翻页时只遍历这些属性。
+     */
+    private final int[] mActiveProperties;
+    private final float[] mBefore;
+    private final float[] mAfter;
+    private final int mLayerType;
+    private final float mMaxTranslationPages;
+    /**
+     * 用来接收每一次采样的结果，onTransform只会在主线程中调用，所以可以复用。
+     */
+    private final float[] mValues = new float[PROPERTY_COUNT];
+
+    private KeyframePageTransformer(Builder builder) {
+        super(builder.mMinPosition, builder.mMaxPosition);
+        mMinPosition = builder.mMinPosition;
+        mMaxPosition = builder.mMaxPosition;
+        int size = Math.max(2, (int) Math.ceil((mMaxPosition - mMinPosition) * builder.mSamplesPerUnit) + 1);
+        mIndexScale = (size - 1) / (mMaxPosition - mMinPosition);
+        mTables = new float[PROPERTY_COUNT][];
+        int activeCount = 0;
+        for (int property = 0; property < PROPERTY_COUNT; property++) {
+            Curve curve = builder.mCurves[property];
+            if (curve != null) {
+                float[] table = new float[size];
+                for (int i = 0; i < size; i++) {
+                    table[i] = curve.valueAt(i == size - 1 ? mMaxPosition : mMinPosition + i / mIndexScale);
+                }
+                mTables[property] = table;
+                activeCount++;
+            }
+        }
+        mActiveProperties = new int[activeCount];
+        for (int property = 0, i = 0; property < PROPERTY_COUNT; property++) {
+            if (mTables[property] != null) {
+                mActiveProperties[i++] = property;
+            }
+        }
+        mBefore = builder.mBefore.clone();
+        mAfter = builder.mAfter.clone();
+        mLayerType = builder.mLayerType;
+        mMaxTranslationPages = builder.mMaxTranslationPages;
+    }
+
+    @Override
+    protected void onTransform(@NonNull View page, float position, @NonNull PageProperties properties) {
+        sample(position, mValues);
+        int width = page.getWidth();
+        int height = page.getHeight();
+        float translationX = 0;
+        boolean hasTranslationX = false;
+        for (int property : mActiveProperties) {
+            float value = mValues[property];
+            switch (property) {
+                case SCALE_X:
+                    properties.setScaleX(value);
+                    break;
+                case SCALE_Y:
+                    properties.setScaleY(value);
+                    break;
+                case ALPHA:
+                    properties.setAlpha(value);
+                    break;
+                case ROTATION:
+                    properties.setRotation(value);
+                    break;
+                case TRANSLATION_X:
+                    translationX += value * width;
+                    hasTranslationX = true;
+                    break;
+                case TRANSLATION_X_BY_HEIGHT:
+                    translationX += value * height;
+                    hasTranslationX = true;
+                    break;
+                case TRANSLATION_Y:
+                    properties.setTranslationY(value * height);
+                    break;
+                case PIVOT_X:
+                    properties.setPivotX(value * width);
+                    break;
+                case PIVOT_Y:
+                    properties.setPivotY(value * height);
+                    break;
+                case ELEVATION:
+                    properties.setElevation(value);
+                    break;
+            }
+        }
+        if (hasTranslationX) {
+            properties.setTranslationX(translationX);
+        }
+    }
+
+    /**
+     * 查表得到所有属性在某个位置的值，平移及旋转中心依然以页面的尺寸为单位。
+     *
+     * @param position 相对于当前页的位置。
+     * @param out      用来接收结果，长度至少为属性的数量，只会写入设置了的属性。
+     */
+    void sample(float position, @NonNull float[] out) {
+        //超出范围的位置使用边缘的值或指定的值。
+        int outside = position < mMinPosition ? -1 : position > mMaxPosition ? 1 : 0;
+        float x = (Math.min(Math.max(position, mMinPosition), mMaxPosition) - mMinPosition) * mIndexScale;
+        int index = (int) x;
+        float fraction = x - index;
+        for (int property : mActiveProperties) {
+            float[] table = mTables[property];
+            if (outside < 0 && !Float.isNaN(mBefore[property])) {
+                out[property] = mBefore[property];
+            } else if (outside > 0 && !Float.isNaN(mAfter[property])) {
+                out[property] = mAfter[property];
+            } else if (index >= table.length - 1) {
+                out[property] = table[table.length - 1];
+            } else {
+                out[property] = table[index] + (table[index + 1] - table[index]) * fraction;
+            }
+        }
+    }
+
+    @Override
+    public float getMaxTranslationPages() {
+        return mMaxTranslationPages;
+    }
+
+    @Override
+    public int getPageLayerType() {
+        return mLayerType;
+    }
+
+    /**
+     * 淡入淡出，与{@link AlphaPageTransformer}的效果相同。
+     */
+    @NonNull
+    public static KeyframePageTransformer alpha() {
+        return new Builder()
+                .keyframes(ALPHA, -1, 0, 0, 1, 1, 0)
+                .outside(ALPHA, 0, 0)
+                .keyframes(TRANSLATION_X, -1, 1, 1, -1)
+                .alphaStrategy(ALPHA_STRATEGY_LAYER)
+                .build();
+    }
+
+    /**
+     * 纵深效果，与{@link DepthPageTransformer}的效果相同。
+     */
+    @NonNull
+    public static KeyframePageTransformer depth() {
+        final float minScale = 0.75f;
+        return new Builder()
+                .keyframes(ALPHA, -1, 1, 0, 1, 1, 0)
+                .outside(ALPHA, 0, 0)
+                .keyframes(TRANSLATION_X, -1, 0, 0, 0, 1, -1)
+                .keyframes(SCALE_X, -1, 1, 0, 1, 1, minScale)
+                .keyframes(SCALE_Y, -1, 1, 0, 1, 1, minScale)
+                .alphaStrategy(ALPHA_STRATEGY_LAYER)
+                .build();
+    }
+
+    /**
+     * 缩小淡出效果，与ZoomOutPageTransformer的效果相同。
+     */
+    @NonNull
+    public static KeyframePageTransformer zoomOut() {
+        final float minScale = 0.85f;
+        final float minAlpha = 0.5f;
+        final Curve scale = new Curve() {
+            @Override
+            public float valueAt(float position) {
+                return Math.max(minScale, 1 - Math.abs(position));
+            }
+        };
+        return new Builder()
+                .curve(SCALE_X, scale)
+                .curve(SCALE_Y, scale)
+                .curve(ALPHA, new Curve() {
+                    @Override
+                    public float valueAt(float position) {
+                        return minAlpha + (scale.valueAt(position) - minScale) / (1 - minScale) * (1 - minAlpha);
+                    }
+                })
+                .outside(ALPHA, 0, 0)
+                .curve(TRANSLATION_X, new Curve() {
+                    @Override
+                    public float valueAt(float position) {
+                        float margin = (1 - scale.valueAt(position)) / 2;
+                        return position < 0 ? margin : -margin;
+                    }
+                })
+                .curve(TRANSLATION_X_BY_HEIGHT, new Curve() {
+                    @Override
+                    public float valueAt(float position) {
+                        float margin = (1 - scale.valueAt(position)) / 4;
+                        return position < 0 ? -margin : margin;
+                    }
+                })
+                .alphaStrategy(ALPHA_STRATEGY_LAYER)
+                .build();
+    }
+
+    /**
+     * 中间大两边小，与{@link com.kelin.banner.page.CenterBigTransformer}的效果相同。
+     *
+     * @param scale 两边页面的纵向缩放比例。
+     */
+    @NonNull
+    public static KeyframePageTransformer centerBig(float scale) {
+        return new Builder()
+                .constant(PIVOT_X, 0.5f)
+                .constant(PIVOT_Y, 0.5f)
+                .keyframes(SCALE_Y, -1, scale, 0, 1, 1, scale)
+                .build();
+    }
+
+    /**
+     * 立体效果，与{@link GalleryTransformer}的效果相同。两边的页面也是可见的，所以在[-3, 3]的范围内采样，
+     * 超出这个范围的页面已经缩小到原来的十分之一以下，直接隐藏。旋转中心在位置0处是跳变的，所以在0与第一个采样点之间会有一个采样间隔的过渡，
+     * 由于此时页面几乎没有缩放，这个过渡是看不出来的。
+     */
+    @NonNull
+    public static KeyframePageTransformer gallery() {
+        return new Builder(-3, 3)
+                .keyframes(SCALE_X, -3, 0.1f, 0, 1, 3, 0.1f)
+                .keyframes(SCALE_Y, -3, 0.1f, 0, 1, 3, 0.1f)
+                .outside(SCALE_X, 0, 0)
+                .outside(SCALE_Y, 0, 0)
+                .keyframes(ALPHA, -3, 0.1f, 0, 1, 3, 0.1f)
+                .outside(ALPHA, 0, 0)
+                //缩放中心在页面靠近当前页的一侧以外，左边的页面为(1.75 - position) / 2，右边的页面为(0.25 - position) / 2。
+                .keyframes(PIVOT_X, -3, 2.375f, 0, 0.875f, 0, 0.125f, 3, -1.375f)
+                .constant(PIVOT_Y, 0.5f)
+                .keyframes(ELEVATION, -0.25f, 0, -0.25f, 1, 0.25f, 1, 0.25f, 0)
+                .maxTranslationPages(1)
+                .build();
+    }
+
+    /**
+     * 属性关于位置的曲线，只会在创建翻页动画时被采样。
+     */
+    public interface Curve {
+        /**
+         * 获取某个位置的属性值。
+         *
+         * @param position 相对于当前页的位置。
+         */
+        float valueAt(float position);
+    }
+
+    /**
+     * 分段线性的关键帧曲线，超出第一个及最后一个关键帧的位置使用边缘的值。
+     */
+    private static class KeyframeCurve implements Curve {
+        private final float[] positions;
+        private final float[] values;
+
+        private KeyframeCurve(float[] positionAndValues) {
+            int count = positionAndValues.length / 2;
+            positions = new float[count];
+            values = new float[count];
+            for (int i = 0; i < count; i++) {
+                positions[i] = positionAndValues[i * 2];
+                values[i] = positionAndValues[i * 2 + 1];
+                if (i > 0 && positions[i] < positions[i - 1]) {
+                    throw new IllegalArgumentException("The keyframe positions must be in ascending order!");
+                }
+            }
+        }
+
+        @Override
+        public float valueAt(float position) {
+            if (position <= positions[0]) {
+                return values[0];
+            }
+            for (int i = 1; i < positions.length; i++) {
+                if (position <= positions[i]) {
+                    float span = positions[i] - positions[i - 1];
+                    return span == 0 ? values[i] : values[i - 1] + (values[i] - values[i - 1]) * (position - positions[i - 1]) / span;
+                }
+            }
+            return values[values.length - 1];
+        }
+    }
+
+    public static final class Builder {
+        private final float mMinPosition;
+        private final float mMaxPosition;
+        private final Curve[] mCurves = new Curve[PROPERTY_COUNT];
+        private final float[] mBefore = new float[PROPERTY_COUNT];
+        private final float[] mAfter = new float[PROPERTY_COUNT];
+        private int mSamplesPerUnit = DEFAULT_SAMPLES_PER_UNIT;
+        private int mLayerType = View.LAYER_TYPE_HARDWARE;
+        private int mAlphaStrategy = ALPHA_STRATEGY_DEFAULT;
+        private float mMaxTranslationPages;
+
+        /**
+         * 创建一个在[-1, 1]范围内采样的构建者。
+         */
+        public Builder() {
+            this(-1, 1);
+        }
+
+        /**
+         * 创建构建者。
+         *
+         * @param minPosition 采样的最小位置。
+         * @param maxPosition 采样的最大位置，必须大于最小位置。
+         */
+        public Builder(float minPosition, float maxPosition) {
+            if (!(maxPosition > minPosition)) {
+                throw new IllegalArgumentException("The maxPosition must be greater than the minPosition!");
+            }
+            mMinPosition = minPosition;
+            mMaxPosition = maxPosition;
+            Arrays.fill(mBefore, Float.NaN);
+            Arrays.fill(mAfter, Float.NaN);
+        }
+
+        /**
+         * 设置属性的曲线。
+         *
+         * @param property 属性，例如{@link #ALPHA}。
+         * @param curve    属性关于位置的曲线。
+         */
+        @NonNull
+        public Builder curve(int property, @NonNull Curve curve) {
+            mCurves[checkProperty(property)] = curve;
+            return this;
+        }
+
+        /**
+         * 使用分段线性的关键帧设置属性的曲线。
+         *
+         * @param property          属性，例如{@link #ALPHA}。
+         * @param positionAndValues 依次为每个关键帧的位置及属性值，位置必须是升序的。
+         */
+        @NonNull
+        public Builder keyframes(int property, @NonNull float... positionAndValues) {
+            if (positionAndValues.length < 2 || positionAndValues.length % 2 != 0) {
+                throw new IllegalArgumentException("The keyframes must be pairs of position and value!");
+            }
+            return curve(property, new KeyframeCurve(positionAndValues));
+        }
+
+        /**
+         * 设置属性为固定的值。
+         *
+         * @param property 属性，例如{@link #PIVOT_X}。
+         * @param value    属性值。
+         */
+        @NonNull
+        public Builder constant(int property, float value) {
+            return keyframes(property, 0, value);
+        }
+
+        /**
+         * 设置位置超出采样范围时属性的值，不设置时使用范围边缘的值。
+         *
+         * @param property 属性，例如{@link #ALPHA}。
+         * @param before   位置小于最小位置时的值。
+         * @param after    位置大于最大位置时的值。
+         */
+        @NonNull
+        public Builder outside(int property, float before, float after) {
+            mBefore[checkProperty(property)] = before;
+            mAfter[property] = after;
+            return this;
+        }
+
+        /**
+         * 设置每个单位的位置采样的次数，次数越多越精确，占用的内存也越多。
+         *
+         * @param samples 采样次数，默认为{@link #DEFAULT_SAMPLES_PER_UNIT}。
+         */
+        @NonNull
+        public Builder samplesPerUnit(int samples) {
+            mSamplesPerUnit = Math.max(1, samples);
+            return this;
+        }
+
+        /**
+         * 设置翻页期间页面所使用的图层类型，默认为{@link View#LAYER_TYPE_HARDWARE}。
+         *
+         * @param layerType 图层类型。
+         */
+        @NonNull
+        public Builder layerType(int layerType) {
+            mLayerType = layerType;
+            return this;
+        }
+
+        /**
+         * 设置透明度策略，见{@link BasePageTransformer#setAlphaStrategy(int)}。
+         *
+         * @param strategy 透明度策略。
+         */
+        @NonNull
+        public Builder alphaStrategy(int strategy) {
+            mAlphaStrategy = strategy;
+            return this;
+        }
+
+        /**
+         * 设置翻页动画最多会把不相邻的页面朝当前页平移多少个页面的宽度，见{@link BasePageTransformer#getMaxTranslationPages()}。
+         *
+         * @param pages 平移的页面数量，默认为0。
+         */
+        @NonNull
+        public Builder maxTranslationPages(float pages) {
+            mMaxTranslationPages = Math.max(0, pages);
+            return this;
+        }
+
+        @NonNull
+        public KeyframePageTransformer build() {
+            KeyframePageTransformer transformer = new KeyframePageTransformer(this);
+            transformer.setAlphaStrategy(mAlphaStrategy);
+            return transformer;
+        }
+
+        private static int checkProperty(int property) {
+            if (property < 0 || property >= PROPERTY_COUNT) {
+                throw new IllegalArgumentException("Unknown property: " + property);
+            }
+            return property;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.kelin.banner.transformer;
+
+import android.view.View;
+
+import androidx.viewpager.widget.ViewPager;
+
+/**
+ * 描述 可以声明翻页时页面所使用的图层类型的{@link ViewPager.PageTransformer}。
+ * <p>BannerView只会在翻页动画进行期间将可见的页面提升为该类型的图层，停止滚动后立即移除。只改变页面整体的缩放、旋转及透明度的动画
+ * 适合使用{@link View#LAYER_TYPE_HARDWARE}，这样每一帧只需要合成而不需要重新绘制页面；而在动画期间会改变页面内部内容的动画
+ * (例如{@link ScrollPaintingPageTransformer})则应当使用{@link View#LAYER_TYPE_NONE}，否则图层每一帧都需要重新渲染，反而更慢。
+ * 没有实现该接口的PageTransformer使用{@link ViewPager#setPageTransformer(boolean, ViewPager.PageTransformer, int)}中指定的图层类型。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午8:00
+ * 版本 v 1.0.0
+ */
+
+public interface LayeredPageTransformer extends ViewPager.PageTransformer {
+
+    /**
+     * 获取翻页时页面所使用的图层类型。
+     *
+     * @return 返回{@link View#LAYER_TYPE_HARDWARE}、{@link View#LAYER_TYPE_SOFTWARE}或{@link View#LAYER_TYPE_NONE}。
+     */
+    int getPageLayerType();
+}
@@ -0,0 +1,172 @@
+package com.kelin.banner.transformer;
+
+import android.os.Build;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 描述 页面的变换属性。
+ * <p>{@link BasePageTransformer}通过它收集一次变换中需要设置的属性，没有设置的属性为{@link Float#NaN}，不会被写入页面。
+ * 同时它也被用来记录每个页面最近一次被写入的属性，只有与之不同的属性才会被真正写入页面。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午8:30
+ * 版本 v 1.0.0
+ */
+
+public final class PageProperties {
+
+    private float mPivotX;
+    private float mPivotY;
+    private float mScaleX;
+    private float mScaleY;
+    private float mTranslationX;
+    private float mTranslationY;
+    private float mRotation;
+    private float mAlpha;
+    private float mElevation;
+
+    PageProperties() {
+        reset();
+    }
+
+    public void setPivotX(float pivotX) {
+        mPivotX = pivotX;
+    }
+
+    public void setPivotY(float pivotY) {
+        mPivotY = pivotY;
+    }
+
+    public void setScaleX(float scaleX) {
+        mScaleX = scaleX;
+    }
+
+    public void setScaleY(float scaleY) {
+        mScaleY = scaleY;
+    }
+
+    /**
+     * 同时设置横向及纵向的缩放比例。
+     *
+     * @param scale 缩放比例。
+     */
+    public void setScale(float scale) {
+        mScaleX = scale;
+        mScaleY = scale;
+    }
+
+    public void setTranslationX(float translationX) {
+        mTranslationX = translationX;
+    }
+
+    public void setTranslationY(float translationY) {
+        mTranslationY = translationY;
+    }
+
+    public void setRotation(float rotation) {
+        mRotation = rotation;
+    }
+
+    public void setAlpha(float alpha) {
+        mAlpha = alpha;
+    }
+
+    /**
+     * 设置页面的Z轴高度，只在Android 5.0及以上生效。
+     *
+     * @param elevation Z轴高度，单位：像素。
+     */
+    public void setElevation(float elevation) {
+        mElevation = elevation;
+    }
+
+    float getAlpha() {
+        return mAlpha;
+    }
+
+    /**
+     * 将所有的属性重置为未设置。
+     */
+    void reset() {
+        mPivotX = Float.NaN;
+        mPivotY = Float.NaN;
+        mScaleX = Float.NaN;
+        mScaleY = Float.NaN;
+        mTranslationX = Float.NaN;
+        mTranslationY = Float.NaN;
+        mRotation = Float.NaN;
+        mAlpha = Float.NaN;
+        mElevation = Float.NaN;
+    }
+
+    /**
+     * 将已经设置了的并且与页面最近一次被写入的值不同的属性写入页面。
+     *
+     * @param page    要写入的页面。
+     * @param applied 页面最近一次被写入的属性，写入后会同步更新。
+     */
+    void applyTo(@NonNull View page, @NonNull PageProperties applied) {
+        if (isChanged(mPivotX, applied.mPivotX)) {
+            page.setPivotX(applied.mPivotX = mPivotX);
+        }
+        if (isChanged(mPivotY, applied.mPivotY)) {
+            page.setPivotY(applied.mPivotY = mPivotY);
+        }
+        if (isChanged(mScaleX, applied.mScaleX)) {
+            page.setScaleX(applied.mScaleX = mScaleX);
+        }
+        if (isChanged(mScaleY, applied.mScaleY)) {
+            page.setScaleY(applied.mScaleY = mScaleY);
+        }
+        if (isChanged(mTranslationX, applied.mTranslationX)) {
+            page.setTranslationX(applied.mTranslationX = mTranslationX);
+        }
+        if (isChanged(mTranslationY, applied.mTranslationY)) {
+            page.setTranslationY(applied.mTranslationY = mTranslationY);
+        }
+        if (isChanged(mRotation, applied.mRotation)) {
+            page.setRotation(applied.mRotation = mRotation);
+        }
+        if (isChanged(mAlpha, applied.mAlpha)) {
+            page.setAlpha(applied.mAlpha = mAlpha);
+        }
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && isChanged(mElevation, applied.mElevation)) {
+            page.setElevation(applied.mElevation = mElevation);
+        }
+    }
+
+    /**
+     * 合并另一个效果计算出的属性：缩放及透明度相乘，平移、旋转及Z轴高度相加，旋转及缩放中心以后设置的为准。
+     *
+     * @param other 另一个效果计算出的属性。
+     */
+    void merge(@NonNull PageProperties other) {
+        mPivotX = replace(mPivotX, other.mPivotX);
+        mPivotY = replace(mPivotY, other.mPivotY);
+        mScaleX = multiply(mScaleX, other.mScaleX);
+        mScaleY = multiply(mScaleY, other.mScaleY);
+        mTranslationX = add(mTranslationX, other.mTranslationX);
+        mTranslationY = add(mTranslationY, other.mTranslationY);
+        mRotation = add(mRotation, other.mRotation);
+        mAlpha = multiply(mAlpha, other.mAlpha);
+        mElevation = add(mElevation, other.mElevation);
+    }
+
+    private static float replace(float value, float other) {
+        return Float.isNaN(other) ? value : other;
+    }
+
+    private static float multiply(float value, float other) {
+        return Float.isNaN(other) ? value : Float.isNaN(value) ? other : value * other;
+    }
+
+    private static float add(float value, float other) {
+        return Float.isNaN(other) ? value : Float.isNaN(value) ? other : value + other;
+    }
+
+    private static boolean isChanged(float value, float applied) {
+        //NaN与任何值都不相等，所以还没有写入过的属性一定会被写入。
+        return !Float.isNaN(value) && value != applied;
+    }
+}
@@ -1,7 +1,7 @@
 package com.kelin.banner.transformer;
 
 import androidx.annotation.IntRange;
-import androidx.viewpager.widget.ViewPager;
+import androidx.annotation.NonNull;
 import android.view.View;
 import android.view.ViewGroup;
 
@@ -12,7 +12,7 @@ import android.view.ViewGroup;
  * <p><strong>版本: </strong> v 1.0.0
  */
 
-public class ScrollPaintingPageTransformer implements ViewPager.PageTransformer {
+public class ScrollPaintingPageTransformer extends BasePageTransformer {
 
     private final int factor;
 
@@ -34,25 +34,40 @@ public class ScrollPaintingPageTransformer implements ViewPager.PageTransformer
     }
 
     @Override
-    public void transformPage(View page, float position) {
+    protected void onTransform(@NonNull View page, float position, @NonNull PageProperties properties) {
         View child;
         if (page instanceof ViewGroup && (child = ((ViewGroup) page).getChildAt(0)) != null) {
             int pageWidth = page.getWidth();
-            if (position >= -1 && position <= 1) {;
+            if (position >= -1 && position <= 1) {
                 float translationX = pageWidth * -position / factor;
                 if (position <= 0) {
-                    child.setTranslationX(translationX);
+                    setChildTranslationX(child, translationX);
                     if (position == 0) {
-                        page.setTranslationX(translationX);
+                        properties.setTranslationX(translationX);
                     }
                 } else {
-                    child.setTranslationX(0);
-                    page.setTranslationX(translationX);
+                    setChildTranslationX(child, 0);
+                    properties.setTranslationX(translationX);
                 }
             } else {
-                child.setTranslationX(0);
-                page.setTranslationX(0);
+                setChildTranslationX(child, 0);
+                properties.setTranslationX(0);
             }
         }
     }
+
+    private static void setChildTranslationX(View child, float translationX) {
+        //子View的属性不在PageProperties中，所以直接与当前的值比较。
+        if (child.getTranslationX() != translationX) {
+            child.setTranslationX(translationX);
+        }
+    }
+
+    /**
+     * 翻页期间页面内部的内容也在移动，使用图层反而需要每一帧都重新渲染图层，所以不使用图层。
+     */
+    @Override
+    public int getPageLayerType() {
+        return View.LAYER_TYPE_NONE;
+    }
 }
@@ -1,8 +1,9 @@
 package com.kelin.banner.transformer;
 
-import androidx.viewpager.widget.ViewPager;
 import android.view.View;
 
+import androidx.annotation.NonNull;
+
 /**
  * 描述 ViewPager的翻页动画，这里的代码是从Google官方的文档中拷贝过来的。
  * 创建人 kelin
@@ -10,17 +11,22 @@ import android.view.View;
  * 版本 v 1.0.0
  */
 
-class ZoomOutPageTransformer implements ViewPager.PageTransformer {
+class ZoomOutPageTransformer extends BasePageTransformer {
     private static final float MIN_SCALE = 0.85f;
     private static final float MIN_ALPHA = 0.5f;
 
-    public void transformPage(View view, float position) {
+    public ZoomOutPageTransformer() {
+        setAlphaStrategy(ALPHA_STRATEGY_LAYER);
+    }
+
+    @Override
+    protected void onTransform(@NonNull View view, float position, @NonNull PageProperties properties) {
         int pageWidth = view.getWidth();
         int pageHeight = view.getHeight();
 
         if (position < -1) { // [-Infinity,-1)
             // This page is way off-screen to the left.
-            view.setAlpha(0);
+            properties.setAlpha(0);
 
         } else if (position <= 1) { // [-1,1]
             // Modify the default slide transition to shrink the page as well
@@ -28,23 +34,22 @@ class ZoomOutPageTransformer implements ViewPager.PageTransformer {
             float vertMargin = pageHeight * (1 - scaleFactor) / 2;
             float horzMargin = pageWidth * (1 - scaleFactor) / 2;
             if (position < 0) {
-                view.setTranslationX(horzMargin - vertMargin / 2);
+                properties.setTranslationX(horzMargin - vertMargin / 2);
             } else {
-                view.setTranslationX(-horzMargin + vertMargin / 2);
+                properties.setTranslationX(-horzMargin + vertMargin / 2);
             }
 
             // Scale the page down (between MIN_SCALE and 1)
-            view.setScaleX(scaleFactor);
-            view.setScaleY(scaleFactor);
+            properties.setScale(scaleFactor);
 
             // Fade the page relative to its size.
-            view.setAlpha(MIN_ALPHA +
+            properties.setAlpha(MIN_ALPHA +
                     (scaleFactor - MIN_SCALE) /
                             (1 - MIN_SCALE) * (1 - MIN_ALPHA));
 
         } else { // (1,+Infinity]
             // This page is way off-screen to the right.
-            view.setAlpha(0);
+            properties.setAlpha(0);
         }
     }
 }
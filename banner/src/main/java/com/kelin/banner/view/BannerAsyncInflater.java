@@ -0,0 +1,200 @@
+package com.kelin.banner.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.viewpager.widget.ViewPager;
+
+import com.kelin.banner.BannerEntry;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 描述 在后台线程中提前创建即将显示的页面。
+ * <p>{@link BannerEntry#onCreateView(ViewGroup)}会被放到一个所有BannerView共享的低优先级后台线程中执行，创建好的页面交回主线程后
+ * 按索引保存，{@link BannerHelper}在instantiateItem时会优先使用这里已经创建好的页面，还没有创建好时则退回到在主线程中同步创建。
+ * <p>由于onCreateView会在后台线程中执行，所以只应当在其中创建View，不要在其中访问其他的View或者需要Looper的对象。
+ * 传给onCreateView的父布局是一个与BannerView使用相同Context的没有被添加到窗口中的替身，页面的LayoutParams会在交回主线程后重新设置。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午4:50
+ * 版本 v 1.0.0
+ */
+
+final class BannerAsyncInflater {
+
+    private static final String TAG = "BannerAsyncInflater";
+
+    private static ExecutorService sExecutor;
+
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    /**
+     * 已经创建好的页面，以索引为key。
+     */
+    private final SparseArray<Inflation> mReady = new SparseArray<>();
+    /**
+     * 正在后台创建的页面，以索引为key。
+     */
+    private final SparseArray<Inflation> mPending = new SparseArray<>();
+    /**
+     * 每次清空时都会增加，用来丢弃清空前提交的任务的结果。
+     */
+    private int mGeneration;
+    /**
+     * 在后台线程中代替BannerView作为onCreateView的父布局，避免在其他线程中访问已经被添加到窗口中的BannerView。
+     */
+    private ViewGroup mStandInParent;
+
+    private static synchronized ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull final Runnable r) {
+                    Thread thread = new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            r.run();
+                        }
+                    }, TAG);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return sExecutor;
+    }
+
+    /**
+     * 判断某个索引的页面是否已经创建好或正在创建。
+     */
+    boolean contains(int index, @NonNull BannerEntry entry) {
+        Inflation ready = mReady.get(index);
+        Inflation pending = mPending.get(index);
+        return (ready != null && ready.entry == entry) || (pending != null && pending.entry == entry);
+    }
+
+    /**
+     * 在后台线程中创建页面。
+     *
+     * @param index  模型的索引。
+     * @param entry  模型对象。
+     * @param parent 页面的父布局，只会被用来获取Context，不会被传到后台线程中。
+     */
+    void inflate(int index, @NonNull BannerEntry entry, @NonNull ViewGroup parent) {
+        if (contains(index, entry)) {
+            return;
+        }
+        if (mStandInParent == null || mStandInParent.getContext() != parent.getContext()) {
+            mStandInParent = new FrameLayout(parent.getContext());
+        }
+        final Inflation inflation = new Inflation(index, entry, mStandInParent, mGeneration);
+        mPending.put(index, inflation);
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    inflation.view = inflation.entry.onCreateView(inflation.parent);
+                } catch (Exception e) {
+                    //交由主线程同步创建，如果依然失败则会在主线程中抛出异常。
+                    Log.w(TAG, "Failed to inflate the page in background.", e);
+                }
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onInflated(inflation);
+                    }
+                });
+            }
+        });
+    }
+
+    private void onInflated(Inflation inflation) {
+        if (mPending.get(inflation.index) != inflation) {
+            //已经被清空或者已经不在需要的范围内了。
+            return;
+        }
+        mPending.remove(inflation.index);
+        View view = inflation.view;
+        if (inflation.generation == mGeneration && view != null && view.getParent() == null) {
+            //页面是以替身为父布局创建的，换成ViewPager的LayoutParams，ViewPager会让页面填满自己。
+            view.setLayoutParams(new ViewPager.LayoutParams());
+            mReady.put(inflation.index, inflation);
+        }
+    }
+
+    /**
+     * 取出一个已经创建好的页面。
+     *
+     * @param index 模型的索引。
+     * @param entry 模型对象，只有创建页面时使用的模型与它相同时才会返回。
+     * @return 如果页面已经创建好了则返回该页面，否则返回null。
+     */
+    @Nullable
+    View take(int index, @NonNull BannerEntry entry) {
+        Inflation inflation = mReady.get(index);
+        if (inflation != null) {
+            mReady.remove(index);
+            if (inflation.entry == entry) {
+                return inflation.view;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 丢弃不在需要的范围内的已经创建好的页面以及正在创建的页面的结果。
+     *
+     * @param keep 需要保留的索引。
+     */
+    void retain(@NonNull SparseBooleanArray keep) {
+        for (int i = mReady.size() - 1; i >= 0; i--) {
+            if (!keep.get(mReady.keyAt(i))) {
+                mReady.removeAt(i);
+            }
+        }
+        for (int i = mPending.size() - 1; i >= 0; i--) {
+            if (!keep.get(mPending.keyAt(i))) {
+                mPending.removeAt(i);
+            }
+        }
+    }
+
+    /**
+     * 丢弃所有已经创建好的页面以及正在创建的页面的结果。
+     *
+     * @return 返回被丢弃的已经创建好的页面的数量。
+     */
+    int clear() {
+        int size = mReady.size();
+        mReady.clear();
+        mPending.clear();
+        mGeneration++;
+        return size;
+    }
+
+    private static class Inflation {
+        private final int index;
+        private final BannerEntry entry;
+        private final ViewGroup parent;
+        private final int generation;
+        private volatile View view;
+
+        private Inflation(int index, BannerEntry entry, ViewGroup parent, int generation) {
+            this.index = index;
+            this.entry = entry;
+            this.parent = parent;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.kelin.banner.view;
+
+import android.content.res.Resources;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.kelin.banner.BannerEntry;
+import com.kelin.banner.page.Pageable;
+
+import java.util.List;
+
+import static com.kelin.banner.view.BannerView.MULTI_MODE_FROM_COVER_TO_COVER_LOOP;
+import static com.kelin.banner.view.BannerView.SINGLE_MODE_CAN_NOT_PAGING;
+import static com.kelin.banner.view.BannerView.SINGLE_MODE_NO_INDICATOR;
+
+/**
+ * 描述 {@link BannerHelper}与{@link RecyclerBannerView}两个引擎共用的翻页、指示器、标题及关联控件查找的逻辑。
+ * <p>两个引擎只是页面的管理方式不同，翻页规则及对单页模式、多页模式的解释必须保持一致，所以都集中在这里。
+ * 创建人 kelin
+ * 创建时间 2026/10/19  上午0:40
+ * 版本 v 1.0.0
+ */
+
+final class BannerEngineSupport {
+
+    /**
+     * 表示不需要再翻页了。
+     */
+    static final int NO_PAGE = -1;
+    /**
+     * 页面模式标识中单页模式所占的位。
+     */
+    static final int SINGLE_PAGE_MODE_MASK = 0x0f;
+    /**
+     * 页面模式标识中多页模式所占的位。
+     */
+    static final int MULTI_PAGE_MODE_MASK = 0xf0;
+
+    private BannerEngineSupport() {
+    }
+
+    /**
+     * 判断单页模式是否是合法的取值。
+     *
+     * @param singlePageMode 已经去掉了多页模式的单页模式。
+     */
+    static boolean isValidSinglePageMode(int singlePageMode) {
+        return singlePageMode == SINGLE_MODE_NO_INDICATOR
+                || singlePageMode == SINGLE_MODE_CAN_NOT_PAGING
+                || singlePageMode == (SINGLE_MODE_NO_INDICATOR | SINGLE_MODE_CAN_NOT_PAGING);
+    }
+
+    /**
+     * 判断是否可以循环翻页。
+     *
+     * @param items               当前轮播图中的数据集。
+     * @param singlePageModeFlags 单页模式。
+     * @return 可以循环翻页返回true，不可以循环翻页返回false。
+     */
+    static boolean canPaging(List<? extends BannerEntry> items, int singlePageModeFlags) {
+        return items != null && (items.size() > 1 || (singlePageModeFlags & SINGLE_MODE_CAN_NOT_PAGING) == 0);
+    }
+
+    /**
+     * 判断Banner指示器是否可用。
+     *
+     * @param items               当前轮播图中的数据集。
+     * @param singlePageModeFlags 单页模式。
+     * @return 可用返回true，不可用返回false。
+     */
+    static boolean isIndicatorEnable(List<? extends BannerEntry> items, int singlePageModeFlags) {
+        return items != null && !items.isEmpty() && (items.size() > 1 || (singlePageModeFlags & SINGLE_MODE_NO_INDICATOR) == 0);
+    }
+
+    /**
+     * 根据数据集更新指示器的显示状态及总页数。
+     *
+     * @param indicatorView       指示器，可以为null。
+     * @param items               当前轮播图中的数据集。
+     * @param singlePageModeFlags 单页模式。
+     * @return 指示器可用返回true，没有指示器或不可用返回false。
+     */
+    static boolean updateIndicator(@Nullable Pageable indicatorView, List<? extends BannerEntry> items, int singlePageModeFlags) {
+        if (indicatorView == null) {
+            return false;
+        }
+        if (isIndicatorEnable(items, singlePageModeFlags)) {
+            ((View) indicatorView).setVisibility(View.VISIBLE);
+            indicatorView.setTotalPage(items.size());
+            return true;
+        } else {
+            ((View) indicatorView).setVisibility(View.GONE);
+            return false;
+        }
+    }
+
+    /**
+     * 显示模型的标题及副标题。
+     *
+     * @param titleView    标题控件，可以为null。
+     * @param subTitleView 副标题控件，可以为null。
+     * @param entry        要显示的模型，为null时清空。
+     */
+    static void showTitles(@Nullable TextView titleView, @Nullable TextView subTitleView, @Nullable BannerEntry entry) {
+        if (titleView != null) {
+            titleView.setText(entry == null ? null : entry.getTitle());
+        }
+        if (subTitleView != null) {
+            subTitleView.setText(entry == null ? null : entry.getSubTitle());
+        }
+    }
+
+    /**
+     * 获取自动翻页的下一页，无限轮播模式下到达末尾时需要由引擎自己先回到中间。
+     *
+     * @param currentPage   当前页的位置。
+     * @param pageCount     页面总数。
+     * @param multiPageMode 多页模式。
+     * @return 返回下一页的位置，从头到尾轮播到达最后一页时返回{@link #NO_PAGE}。
+     */
+    static int getNextPage(int currentPage, int pageCount, int multiPageMode) {
+        if (currentPage < pageCount - 1) {
+            return currentPage + 1;
+        } else if (pageCount <= 1) {
+            //只有一页并且允许翻页时保持计时，数据源改变后可以继续翻页。
+            return currentPage;
+        } else {
+            return multiPageMode == MULTI_MODE_FROM_COVER_TO_COVER_LOOP ? 0 : NO_PAGE;
+        }
+    }
+
+    /**
+     * 计算下一次翻页的截止时间。下一次的截止时间是在上一次的截止时间的基础上累加的，所以不会因为翻页动画或主线程的繁忙而产生漂移。
+     * 如果已经错过了(例如主线程长时间阻塞)则从当前时间重新对齐。
+     *
+     * @param lastPagingTime     上一次翻页的截止时间。
+     * @param pagingIntervalTime 翻页的间隔时长。
+     * @param now                当前时间。
+     */
+    static long getNextPagingTime(long lastPagingTime, int pagingIntervalTime, long now) {
+        long nextPagingTime = lastPagingTime + pagingIntervalTime;
+        return nextPagingTime <= now ? now + pagingIntervalTime : nextPagingTime;
+    }
+
+    /**
+     * 从父控件开始逐级向上查找指定ID的控件。
+     *
+     * @param view   开始查找的父控件。
+     * @param viewId 控件的ID。
+     * @param desc   控件的描述，用于异常信息。
+     * @throws Resources.NotFoundException 如果直到根布局都没有找到。
+     */
+    @NonNull
+    static View findView(@NonNull ViewGroup view, int viewId, String desc) {
+        View v = view.findViewById(viewId);
+        if (v == null) {
+            ViewParent parent = view.getParent();
+            if (parent instanceof ViewGroup) {
+                return findView((ViewGroup) parent, viewId, desc);
+            } else {
+                throw new Resources.NotFoundException("the " + desc + " view id is not found!");
+            }
+        }
+        return v;
+    }
+
+    /**
+     * 从父控件开始逐级向上查找指定ID的TextView。
+     *
+     * @throws ClassCastException 如果找到的控件不是TextView。
+     * @see #findView(ViewGroup, int, String)
+     */
+    @NonNull
+    static TextView findTextView(@NonNull ViewGroup view, int viewId, String desc) {
+        View v = findView(view, viewId, desc);
+        if (v instanceof TextView) {
+            return (TextView) v;
+        } else {
+            throw new ClassCastException("The " + desc + " attribute in XML must be the resource id of the TextView！");
+        }
+    }
+
+    /**
+     * 从父控件开始逐级向上查找指定ID的页码指示器。
+     *
+     * @throws IllegalArgumentException 如果找到的控件没有实现{@link Pageable}。
+     * @see #findView(ViewGroup, int, String)
+     */
+    @NonNull
+    static Pageable findIndicatorView(@NonNull ViewGroup view, int viewId) {
+        View v = findView(view, viewId, "PointIndicator");
+        if (v instanceof Pageable) {
+            return (Pageable) v;
+        } else {
+            throw new IllegalArgumentException("the indicatorView must implements Pageable interface.");
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.kelin.banner.view;
+
+import android.util.LongSparseArray;
+
+import com.kelin.banner.BannerEntry;
+import com.kelin.banner.StableBannerEntry;
+
+import java.util.List;
+
+/**
+ * 描述 Banner模型的比较工具。
+ * <p>如果模型实现了{@link StableBannerEntry}并提供了稳定ID及内容哈希，则只比较模型的类型及这两个long值，否则退回到{@link BannerEntry#theSame(BannerEntry)}方法。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午4:20
+ * 版本 v 1.0.0
+ */
+
+final class BannerEntryDiff {
+
+    /**
+     * 表示没有找到。
+     */
+    static final int NO_INDEX = -1;
+
+    private BannerEntryDiff() {
+    }
+
+    /**
+     * 获取模型的稳定ID。
+     *
+     * @return 如果模型没有实现{@link StableBannerEntry}或没有稳定ID则返回{@link StableBannerEntry#NO_ID}。
+     */
+    static long getStableId(BannerEntry entry) {
+        return entry instanceof StableBannerEntry ? ((StableBannerEntry) entry).getStableId() : StableBannerEntry.NO_ID;
+    }
+
+    private static long getContentHash(BannerEntry entry) {
+        return entry instanceof StableBannerEntry ? ((StableBannerEntry) entry).getContentHash() : StableBannerEntry.NO_ID;
+    }
+
+    /**
+     * 判断新的模型与旧的模型是否是同一个条目且需要展示在UI视图上的内容没有改变。
+     *
+     * @param oldEntry 旧的模型。
+     * @param newEntry 新的模型。
+     * @return 如果没有改变则返回true，否则返回false。
+     */
+    static boolean isUnchanged(BannerEntry oldEntry, BannerEntry newEntry) {
+        if (oldEntry == newEntry) {
+            return true;
+        }
+        long oldId = getStableId(oldEntry);
+        long newId = getStableId(newEntry);
+        if (oldId != StableBannerEntry.NO_ID && newId != StableBannerEntry.NO_ID) {
+            //不同类型的模型的稳定ID可能来自不同的数据表，即使ID和内容哈希相同页面的布局也是不同的。
+            if (oldId != newId || oldEntry.getClass() != newEntry.getClass()) {
+                return false;
+            }
+            long oldHash = getContentHash(oldEntry);
+            long newHash = getContentHash(newEntry);
+            if (oldHash != StableBannerEntry.NO_ID && newHash != StableBannerEntry.NO_ID) {
+                return oldHash == newHash;
+            }
+        }
+        return oldEntry.theSame(newEntry);
+    }
+
+    /**
+     * 判断两个数据源是否完全没有改变。
+     *
+     * @param oldItems 旧的数据源。
+     * @param newItems 新的数据源。
+     * @return 如果长度相同且每一个模型都没有改变则返回true，否则返回false。
+     */
+    static boolean isUnchanged(List<? extends BannerEntry> oldItems, List<? extends BannerEntry> newItems) {
+        if (oldItems == newItems) {
+            return true;
+        }
+        if (oldItems.size() != newItems.size()) {
+            return false;
+        }
+        for (int i = 0; i < newItems.size(); i++) {
+            if (!isUnchanged(oldItems.get(i), newItems.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 建立稳定ID到索引的映射，如果有多个模型使用相同的稳定ID则只记录第一个。
+     *
+     * @param items 数据源。
+     * @return 返回稳定ID到索引的映射，没有稳定ID的模型不会被记录。
+     */
+    static LongSparseArray<Integer> indexStableIds(List<? extends BannerEntry> items) {
+        LongSparseArray<Integer> ids = new LongSparseArray<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            long id = getStableId(items.get(i));
+            if (id != StableBannerEntry.NO_ID && ids.get(id) == null) {
+                ids.put(id, i);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 在新的数据源中查找与旧的模型相同且内容没有改变的模型。有稳定ID时直接通过ID查找，否则优先查找相同的索引。
+     *
+     * @param entry    旧的模型。
+     * @param index    旧的模型的索引。
+     * @param newItems 新的数据源。
+     * @param ids      新的数据源的稳定ID到索引的映射，见{@link #indexStableIds(List)}。
+     * @param claimed  新的数据源中已经被匹配过的索引。
+     * @return 返回找到的索引，如果没有找到则返回{@link #NO_INDEX}。
+     */
+    static int findUnchanged(BannerEntry entry, int index, List<? extends BannerEntry> newItems, LongSparseArray<Integer> ids, boolean[] claimed) {
+        long id = getStableId(entry);
+        if (id != StableBannerEntry.NO_ID) {
+            Integer newIndex = ids.get(id);
+            if (newIndex != null) {
+                return !claimed[newIndex] && isUnchanged(entry, newItems.get(newIndex)) ? newIndex : NO_INDEX;
+            }
+        }
+        if (index < claimed.length && !claimed[index] && isUnchanged(entry, newItems.get(index))) {
+            return index;
+        }
+        for (int i = 0; i < claimed.length; i++) {
+            if (!claimed[i] && isUnchanged(entry, newItems.get(i))) {
+                return i;
+            }
+        }
+        return NO_INDEX;
+    }
+}
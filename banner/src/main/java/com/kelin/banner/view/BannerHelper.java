@@ -2,16 +2,20 @@ package com.kelin.banner.view;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
-import android.content.res.Resources;
-import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.Size;
+import androidx.collection.LruCache;
 import androidx.viewpager.widget.PagerAdapter;
 import androidx.viewpager.widget.ViewPager;
 
-import android.util.SparseArray;
+import android.util.LongSparseArray;
+import android.util.SparseBooleanArray;
+import android.util.SparseIntArray;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
@@ -21,18 +25,19 @@ import android.widget.Scroller;
 import android.widget.TextView;
 
 import com.kelin.banner.BannerEntry;
+import com.kelin.banner.BannerPrefetcher;
+import com.kelin.banner.TypedBannerEntry;
+import com.kelin.banner.image.BannerImageLoader;
 import com.kelin.banner.page.CenterBigTransformer;
 import com.kelin.banner.page.Pageable;
+import com.kelin.banner.transformer.BasePageTransformer;
+import com.kelin.banner.transformer.LayeredPageTransformer;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 
 import static com.kelin.banner.view.BannerView.MULTI_MODE_FROM_COVER_TO_COVER;
-import static com.kelin.banner.view.BannerView.MULTI_MODE_FROM_COVER_TO_COVER_LOOP;
 import static com.kelin.banner.view.BannerView.MULTI_MODE_INFINITE_LOOP;
-import static com.kelin.banner.view.BannerView.SINGLE_MODE_CAN_NOT_PAGING;
-import static com.kelin.banner.view.BannerView.SINGLE_MODE_NO_INDICATOR;
 
 /**
  * 描述 Banner的帮助类。
@@ -41,9 +46,45 @@ import static com.kelin.banner.view.BannerView.SINGLE_MODE_NO_INDICATOR;
  * 版本 v 1.0.0
  */
 
-final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChangeListener {
+final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChangeListener, BannerVisibilityTracker.OnVisibleChangedListener {
 
     private static final int NOTHING_INT = 0xffff_ffff;
+    /**
+     * 默认的预取提前量，单位：毫秒。
+     */
+    static final int DEFAULT_PREFETCH_LEAD_TIME = 500;
+    /**
+     * 默认的资源预取距离，即预取当前页前后各多少个模型的资源。
+     */
+    static final int DEFAULT_PREFETCH_DISTANCE = 2;
+    /**
+     * 默认最多缓存的页面数量。
+     */
+    static final int DEFAULT_PAGE_CACHE_SIZE = 3;
+    /**
+     * 挂起原因-窗口不可见。
+     */
+    static final int SUSPEND_WINDOW_GONE = 0x01;
+    /**
+     * 挂起原因-可见面积低于阈值(例如被滚动出了屏幕)。
+     */
+    static final int SUSPEND_INVISIBLE = SUSPEND_WINDOW_GONE << 1;
+    /**
+     * 挂起原因-宿主的生命周期已经进入ON_STOP。
+     */
+    static final int SUSPEND_LIFECYCLE = SUSPEND_INVISIBLE << 1;
+    /**
+     * 释放内存的级别：丢弃缓存的页面。
+     */
+    static final int TRIM_LEVEL_CACHE = 1;
+    /**
+     * 释放内存的级别：同时释放解码后的图片。
+     */
+    static final int TRIM_LEVEL_IMAGES = 2;
+    /**
+     * 释放内存的级别：同时解除所有不可见的页面的数据绑定。
+     */
+    static final int TRIM_LEVEL_OFFSCREEN = 3;
     /**
      * 当前的ViewPage对象。
      */
@@ -61,9 +102,13 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
      */
     private ViewBannerAdapter mAdapter;
     /**
-     * 用来执行翻页任务。
+     * 用来执行翻页任务的共享时钟。
+     */
+    private final PagingScheduler mScheduler = PagingScheduler.getInstance();
+    /**
+     * 下一次翻页的截止时间，基于{@link SystemClock#uptimeMillis()}。
      */
-    private Handler mHandler;
+    private long mNextPagingTime;
     /**
      * 记录是否已经被销毁。
      */
@@ -140,27 +185,114 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
      * 自定义翻页动画。
      */
     private ViewPager.PageTransformer mTransformer;
+    /**
+     * 翻页期间可见的页面所使用的图层类型。
+     */
+    private int mPageLayerType = View.LAYER_TYPE_NONE;
+    /**
+     * 是否允许在翻页期间为页面使用图层，图层会占用额外的内存(每个页面一个页面大小的缓冲)。
+     */
+    private boolean mPageLayerEnable = true;
+    /**
+     * 是否显示了左右两边的页面，显示时页面在BannerView以外的部分也是可见的。
+     */
+    private boolean mSidePagesVisible;
+    /**
+     * 可见区域的横向范围，见{@link #computeVisibleRange(int[])}。
+     */
+    private final int[] mVisibleRange = new int[2];
+    /**
+     * 是否根据可见的宽度自动计算离屏页面的数量，手动设置了离屏页面的数量后不再自动计算。
+     */
+    private boolean mOffscreenPageLimitAdaptive = true;
+    /**
+     * 尺寸改变的回调发生在布局期间，而改变离屏页面的数量会立即添加或移除页面，所以推迟到布局结束后再计算。
+     */
+    private final Runnable mOffscreenPageLimitRunnable = new Runnable() {
+        @Override
+        public void run() {
+            updateOffscreenPageLimit();
+        }
+    };
     /**
      * 用来记录上一次的BannerView的Visibility状态。
      */
     private int lastVisibilityStatus = -1;
+    /**
+     * 当前的挂起原因，只要存在任何一个挂起原因就不会自动翻页。
+     */
+    private int mSuspendFlags;
+    /**
+     * 可见区域追踪器。
+     */
+    private final BannerVisibilityTracker mVisibilityTracker;
+    /**
+     * 后台预创建页面的工具，只有开启了异步预创建后才不为null。
+     */
+    private BannerAsyncInflater mAsyncInflater;
+    /**
+     * 在距离下一次自动翻页多久之前开始预取下一页，单位：毫秒，小于等于0表示不预取。
+     */
+    private int mPrefetchLeadTime = DEFAULT_PREFETCH_LEAD_TIME;
+    /**
+     * 预取时间已经到达，但是由于页面正在滚动而需要等到滚动结束。
+     */
+    private boolean mPrefetchPending;
+    /**
+     * 是否已经向主线程的消息队列注册了{@link #mPrefetchIdleHandler}，只会在主线程中注册。
+     */
+    private boolean mPrefetchIdleQueued;
+    /**
+     * 资源预取。
+     */
+    private final BannerResourcePrefetcher mResourcePrefetcher = new BannerResourcePrefetcher(DEFAULT_PREFETCH_DISTANCE);
+    /**
+     * ViewPager当前的滚动状态。
+     */
+    private int mScrollState = ViewPager.SCROLL_STATE_IDLE;
+    /**
+     * 预取时间到达后等待主线程空闲，与翻页任务一样注册到共享的时钟上，不会为每个BannerView单独唤醒主线程。
+     */
+    private final PagingScheduler.PagingTask mPrefetchTask = new PagingScheduler.PagingTask() {
+        @Override
+        public void onPagingTick() {
+            if (mScrollState == ViewPager.SCROLL_STATE_IDLE) {
+                queuePrefetchIdleHandler();
+            } else {
+                mPrefetchPending = true;
+            }
+        }
+    };
+    /**
+     * 在主线程空闲时预取下一页。
+     */
+    private final MessageQueue.IdleHandler mPrefetchIdleHandler = new MessageQueue.IdleHandler() {
+        @Override
+        public boolean queueIdle() {
+            mPrefetchIdleQueued = false;
+            if (isStarted() && !isPaused() && !isSuspended() && mScrollState == ViewPager.SCROLL_STATE_IDLE) {
+                prefetchNextPage();
+            }
+            return false;
+        }
+    };
     /**
      * 用来翻页的任务。
      */
-    private Runnable mPageDownRunnable = new Runnable() {
+    private PagingScheduler.PagingTask mPageDownTask = new PagingScheduler.PagingTask() {
         @Override
-        public void run() {
+        public void onPagingTick() {
             if (!mIsPaused) {
-                if (isLastPage() && !isFirstPage()) {
-                    if (getMultiPageMode() == MULTI_MODE_FROM_COVER_TO_COVER) {
-                        stop();
-                    } else if (getMultiPageMode() == MULTI_MODE_FROM_COVER_TO_COVER_LOOP) {
-                        mBannerView.setCurrentItem(0, true);
-                        mHandler.postDelayed(this, mPagingIntervalTime);
-                    }
+                if (isInfiniteLoopMode() && isLastPage()) {
+                    //通常在空闲时就已经回到了中间，这里只是以防万一。
+                    recenterInfiniteLoop();
+                }
+                int nextPage = BannerEngineSupport.getNextPage(mCurrentItem, mAdapter.getCount(), getMultiPageMode());
+                if (nextPage == BannerEngineSupport.NO_PAGE) {
+                    stop();
                 } else {
-                    mBannerView.setCurrentItem(mCurrentItem + 1, true);
-                    mHandler.postDelayed(this, mPagingIntervalTime);
+                    mBannerView.setCurrentItem(nextPage, true);
+                    scheduleNextPage();
                 }
             }
         }
@@ -186,10 +318,10 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         mTitleViewId = titleViewId;
         mSubTitleViewId = subTitleViewId;
         mPageModeFlags = pageModeFlags;
-        mHandler = viewPager.getHandler() == null ? new Handler() : viewPager.getHandler();
         mScroller = new BannerScroller(viewPager.getContext(), interpolator == null ? new BannerInterpolator() : interpolator);
         replaceScroller(viewPager, mScroller);
         mAdapter = new ViewBannerAdapter();
+        mVisibilityTracker = new BannerVisibilityTracker(viewPager, this);
         mTouchPauseEnable = touchPauseEnable;
         if (touchPauseEnable) {
             mBannerView.listenerOnTouch(BannerHelper.this);
@@ -205,28 +337,12 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
 
 
     /**
-     * 替换原本的{@link Scroller}对象。
+     * 替换原本的{@link Scroller}对象。如果替换失败则继续使用ViewPager自己的Scroller，只是自动翻页的时长将不再受减速倍数的控制。
      *
      * @param scroller 要替换的{@link Scroller}对象。
      */
     private void replaceScroller(@NonNull BannerView viewPager, Scroller scroller) {
-        try {
-            Field scrollerField = getField(ViewPager.class, "mScroller");
-            scrollerField.set(viewPager, scroller);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    static Field getField(Class cls, String fieldName) {
-        Field positionField = null;
-        try {
-            positionField = cls.getDeclaredField(fieldName);
-            positionField.setAccessible(true);
-        } catch (NoSuchFieldException e) {
-            e.printStackTrace();
-        }
-        return positionField;
+        ViewPagerAccessors.setScroller(viewPager, scroller);
     }
 
     /**
@@ -251,6 +367,93 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         }
     }
 
+    /**
+     * 设置可见阈值，当BannerView在屏幕上可见的面积比例低于该值时暂停轮播，高于或等于该值时恢复轮播。
+     *
+     * @param threshold 可见面积的比例。
+     */
+    void setVisibleThreshold(float threshold) {
+        mVisibilityTracker.setThreshold(threshold);
+    }
+
+    float getVisibleThreshold() {
+        return mVisibilityTracker.getThreshold();
+    }
+
+    float getVisibleFraction() {
+        return mVisibilityTracker.getVisibleFraction();
+    }
+
+    /**
+     * 设置是否在后台线程中提前创建即将显示的页面。
+     *
+     * @param enable true表示开启，false表示关闭。
+     */
+    void setAsyncInflateEnable(boolean enable) {
+        if (enable && mAsyncInflater == null) {
+            mAsyncInflater = new BannerAsyncInflater();
+            preInflatePages(mBannerView.getCurrentItem());
+        } else if (!enable && mAsyncInflater != null) {
+            mAsyncInflater.clear();
+            mAsyncInflater = null;
+        }
+    }
+
+    boolean isAsyncInflateEnable() {
+        return mAsyncInflater != null;
+    }
+
+    /**
+     * 在后台线程中提前创建下一个及上一个即将被ViewPager创建的页面。
+     *
+     * @param position 当前页的位置。
+     */
+    private void preInflatePages(int position) {
+        if (mAsyncInflater != null && !mAdapter.isEmpty()) {
+            int distance = mBannerView.getOffscreenPageLimit() + 1;
+            mAdapter.preInflate(position + distance);
+            mAdapter.preInflate(position - distance);
+            mAdapter.retainPreInflated(position, distance);
+        }
+    }
+
+    /**
+     * 设置资源预取器。
+     *
+     * @param prefetcher 资源预取器，为null时不预取。
+     */
+    void setPrefetcher(@Nullable BannerPrefetcher prefetcher) {
+        mResourcePrefetcher.setPrefetcher(prefetcher);
+        prefetchResources(mBannerView.getCurrentItem());
+    }
+
+    /**
+     * 设置资源预取距离。
+     *
+     * @param distance 预取当前页前后各多少个模型的资源。
+     */
+    void setPrefetchDistance(int distance) {
+        mResourcePrefetcher.setDistance(distance);
+        prefetchResources(mBannerView.getCurrentItem());
+    }
+
+    int getPrefetchDistance() {
+        return mResourcePrefetcher.getDistance();
+    }
+
+    /**
+     * 预取当前页及前后若干个模型的资源，被挂起时(例如不可见或者宿主已经停止)不预取，恢复后再补上。
+     *
+     * @param position 当前页的位置。
+     */
+    private void prefetchResources(int position) {
+        if (mResourcePrefetcher.getPrefetcher() == null || mAdapter.isEmpty() || isSuspended()) {
+            return;
+        }
+        int index = mAdapter.getIndex(Math.max(0, Math.min(position, mAdapter.getCount() - 1)));
+        mResourcePrefetcher.prefetch(mBannerView.getContext(), mAdapter.getItems(), index);
+    }
+
     void setOnPageClickListener(BannerView.OnPageClickListener eventListener) {
         getPageListenerInfo().onClickListener = eventListener;
     }
@@ -259,6 +462,23 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         getPageListenerInfo().onLongClickListener = onPageLongClickListener;
     }
 
+    void setOnPageEvictedListener(BannerView.OnPageEvictedListener onPageEvictedListener) {
+        getPageListenerInfo().onEvictedListener = onPageEvictedListener;
+    }
+
+    /**
+     * 设置最多缓存的页面数量。
+     *
+     * @param size 页面数量，0表示不缓存。
+     */
+    void setPageCacheSize(int size) {
+        mAdapter.setPageCacheSize(size);
+    }
+
+    int getPageCacheSize() {
+        return mAdapter.getPageCacheSize();
+    }
+
     void setOnPageChangedListener(BannerView.OnPageChangeListener onPageChangedListener) {
         getPageListenerInfo().onChangedListener = onPageChangedListener;
     }
@@ -282,13 +502,17 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
      */
     void setIndicatorView(@NonNull View indicatorView) {
         if (indicatorView instanceof Pageable) {
-            mIndicatorView = (Pageable) indicatorView;
-            checkIndicatorEnable(mAdapter.getItems());
+            setIndicatorView((Pageable) indicatorView);
         } else {
             throw new IllegalArgumentException("the indicatorView must implements Pageable interface.");
         }
     }
 
+    private void setIndicatorView(Pageable indicatorView) {
+        mIndicatorView = indicatorView;
+        checkIndicatorEnable(mAdapter.getItems());
+    }
+
     /**
      * 设置标题显示控件。
      *
@@ -296,7 +520,7 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
      */
     void setTitleView(TextView titleView) {
         if (titleView != null) {
-            titleView.setText(mAdapter.isEmpty() ? null : mAdapter.getItem(mCurrentItem).getTitle());
+            BannerEngineSupport.showTitles(titleView, null, mAdapter.isEmpty() ? null : mAdapter.getItem(mCurrentItem));
             mTitleView = titleView;
         }
     }
@@ -308,7 +532,7 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
      */
     void setSubTitleView(TextView subTitleView) {
         if (subTitleView != null) {
-            subTitleView.setText(mAdapter.isEmpty() ? null : mAdapter.getItem(mCurrentItem).getSubTitle());
+            BannerEngineSupport.showTitles(null, subTitleView, mAdapter.isEmpty() ? null : mAdapter.getItem(mCurrentItem));
             mSubTitleView = subTitleView;
         }
     }
@@ -323,8 +547,16 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         if (items == null || items.isEmpty()) {
             return;
         }
+        List<? extends BannerEntry> oldItems = mAdapter.getItems();
+        boolean wasInfiniteLoopMode = isInfiniteLoopMode();
         boolean update = mAdapter.setItems(items);
         if (update) {
+            mResourcePrefetcher.reset();
+            if (oldItems != null && mBannerView.getAdapter() == mAdapter && wasInfiniteLoopMode == isInfiniteLoopMode()) {
+                updateEntries(oldItems, items, start);
+                prefetchResources(mCurrentItem);
+                return;
+            }
             mBannerView.setAdapter(mAdapter.clearCache());
             findRelevantViews();
             checkIndicatorEnable(items);
@@ -336,6 +568,31 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
             } else {
                 selectCenterPage(0);
             }
+            prefetchResources(mBannerView.getCurrentItem());
+        }
+    }
+
+    /**
+     * 以增量的方式替换数据源，没有改变的页面会保留原来的View，只有新增或改变了的页面才会重新创建或绑定，当前页也会保持不变。
+     *
+     * @param oldItems 旧的数据源。
+     * @param items    新的数据源。
+     * @param start    是否开始轮播。
+     */
+    private void updateEntries(List<? extends BannerEntry> oldItems, List<? extends BannerEntry> items, boolean start) {
+        int currentItem = mAdapter.applyDiff(oldItems, mBannerView.getCurrentItem());
+        if (mBannerView.getCurrentItem() != currentItem) {
+            mBannerView.setCurrentItem(currentItem, false);
+        }
+        mCurrentItem = currentItem;
+        checkIndicatorEnable(items);
+        if (mIndicatorEnable) {
+            mIndicatorView.setCurrentPage(mAdapter.getIndex(currentItem));
+        }
+        setTitleView(mTitleView);
+        setSubTitleView(mSubTitleView);
+        if (start && !isStarted()) {
+            start();
         }
     }
 
@@ -353,18 +610,7 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
     }
 
     private void checkIndicatorEnable(List<? extends BannerEntry> items) {
-        if (mIndicatorView != null) {
-            if (items != null && !items.isEmpty() && indicatorEnable(items)) {
-                mIndicatorEnable = true;
-                ((View) mIndicatorView).setVisibility(View.VISIBLE);
-                mIndicatorView.setTotalPage(items.size());
-            } else {
-                mIndicatorEnable = false;
-                ((View) mIndicatorView).setVisibility(View.GONE);
-            }
-        } else {
-            mIndicatorEnable = false;
-        }
+        mIndicatorEnable = BannerEngineSupport.updateIndicator(mIndicatorView, items, getSinglePageModeFlags());
     }
 
     /**
@@ -373,7 +619,7 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
      * @return 如果当前正在显示最后一页则返回true，否则返回false。
      */
     private boolean isLastPage() {
-        return mAdapter.getCount() == mCurrentItem + mBannerView.getOffscreenPageLimit();
+        return mCurrentItem == mAdapter.getCount() - 1;
     }
 
     /**
@@ -385,16 +631,6 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         return mCurrentItem % mAdapter.getItemSize() == 0;
     }
 
-    /**
-     * 判断Banner指示器是否可用。
-     *
-     * @param items 当前轮播图中的数据集。
-     * @return 可用返回true，不可用返回false。
-     */
-    private boolean indicatorEnable(List<? extends BannerEntry> items) {
-        return (items != null && items.size() > 1) || (getSinglePageModeFlags() & SINGLE_MODE_NO_INDICATOR) == 0;
-    }
-
     /**
      * 判断是否可以循环翻页。
      *
@@ -402,21 +638,21 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
      * @return 可以循环翻页返回true，不可以循环翻页返回false。
      */
     private boolean canPaging(List<? extends BannerEntry> items) {
-        return items != null && (items.size() > 1 || (getSinglePageModeFlags() & SINGLE_MODE_CAN_NOT_PAGING) == 0);
+        return BannerEngineSupport.canPaging(items, getSinglePageModeFlags());
     }
 
     /**
      * 获取单页面的显示模式标识。
      */
     private int getSinglePageModeFlags() {
-        return mBannerView.isSlideShowMode() ? MULTI_MODE_FROM_COVER_TO_COVER : (mPageModeFlags & 0x0f);
+        return mBannerView.isSlideShowMode() ? MULTI_MODE_FROM_COVER_TO_COVER : (mPageModeFlags & BannerEngineSupport.SINGLE_PAGE_MODE_MASK);
     }
 
     /**
      * 获取多页面的轮播模式标识。
      */
     private int getMultiPageMode() {
-        return mBannerView.isSlideShowMode() ? MULTI_MODE_FROM_COVER_TO_COVER : (mPageModeFlags & 0xf0);
+        return mBannerView.isSlideShowMode() ? MULTI_MODE_FROM_COVER_TO_COVER : (mPageModeFlags & BannerEngineSupport.MULTI_PAGE_MODE_MASK);
     }
 
     /**
@@ -446,13 +682,87 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
             selectCenterPage(0);
         }
 
-        if (canPaging(items)) {
-            mHandler.postDelayed(mPageDownRunnable, mPagingIntervalTime);
+        if (isSuspended()) {
+            //等到所有的挂起原因都消失后再由resume方法恢复。
+            mIsPaused = true;
+        } else if (canPaging(items)) {
+            mNextPagingTime = SystemClock.uptimeMillis() + mPagingIntervalTime;
+            mScheduler.schedule(mPageDownTask, mNextPagingTime);
+            schedulePrefetch();
+        }
+    }
+
+    /**
+     * 计划下一次翻页，截止时间的计算见{@link BannerEngineSupport#getNextPagingTime(long, int, long)}。
+     */
+    private void scheduleNextPage() {
+        mNextPagingTime = BannerEngineSupport.getNextPagingTime(mNextPagingTime, mPagingIntervalTime, SystemClock.uptimeMillis());
+        mScheduler.schedule(mPageDownTask, mNextPagingTime);
+        schedulePrefetch();
+    }
+
+    /**
+     * 在下一次翻页的截止时间之前{@link #mPrefetchLeadTime}毫秒时预取下一页。
+     */
+    private void schedulePrefetch() {
+        cancelPrefetch();
+        if (mPrefetchLeadTime > 0) {
+            mScheduler.schedule(mPrefetchTask, mNextPagingTime - mPrefetchLeadTime);
+        }
+    }
+
+    private void cancelPrefetch() {
+        mScheduler.cancel(mPrefetchTask);
+        if (mPrefetchIdleQueued) {
+            //只有在主线程中才会注册，所以这里一定是在主线程中。
+            mPrefetchIdleQueued = false;
+            Looper.myQueue().removeIdleHandler(mPrefetchIdleHandler);
+        }
+        mPrefetchPending = false;
+    }
+
+    private void queuePrefetchIdleHandler() {
+        if (!mPrefetchIdleQueued) {
+            mPrefetchIdleQueued = true;
+            Looper.myQueue().addIdleHandler(mPrefetchIdleHandler);
+        }
+    }
+
+    /**
+     * 确保下一次自动翻页时需要用到的页面已经创建并绑定了数据。翻页开始时ViewPager会创建目标页面之后的第offscreenPageLimit个页面，
+     * 所以预取的是这个页面，如果目标页面本身还没有被创建则预取目标页面。
+     */
+    private void prefetchNextPage() {
+        int target = BannerEngineSupport.getNextPage(mCurrentItem, mAdapter.getCount(), getMultiPageMode());
+        if (target == BannerEngineSupport.NO_PAGE) {
+            return;
+        }
+        if (mAdapter.isInstantiated(target) && target > mCurrentItem) {
+            mAdapter.prebind(target + mBannerView.getOffscreenPageLimit());
+        } else {
+            mAdapter.prebind(target);
+        }
+    }
+
+    /**
+     * 设置预取的提前量，在距离下一次自动翻页还有这么多时间时会在主线程空闲时预先创建并绑定下一次翻页需要用到的页面。
+     *
+     * @param leadTime 提前量，单位：毫秒，小于等于0表示不预取。
+     */
+    void setPrefetchLeadTime(int leadTime) {
+        mPrefetchLeadTime = leadTime;
+        //没有在轮播时不会有已经计划的预取，所以不需要取消，这样在其他线程中创建BannerView时也不会访问主线程的消息队列。
+        if (isStarted() && !isPaused()) {
+            schedulePrefetch();
         }
     }
 
+    int getPrefetchLeadTime() {
+        return mPrefetchLeadTime;
+    }
+
     private void reStart() {
-        if (isStarted() && isPaused()) {
+        if (isStarted() && isPaused() && !isSuspended()) {
             start(false);
             if (isFirstPage()) {
                 postInitFirstPageScrolled();
@@ -473,17 +783,99 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
     private void pause() {
         if (!isPaused() && !mIsNeverStarted) {
             mIsPaused = true;
-            mHandler.removeCallbacks(mPageDownRunnable);
-            if (isLastPage()) {
-                if (getMultiPageMode() == MULTI_MODE_FROM_COVER_TO_COVER) {
-                    mIsStarted = false;
-                } else if (getMultiPageMode() == MULTI_MODE_INFINITE_LOOP) {
-                    mBannerView.setCurrentItem(0, false);
-                }
+            mScheduler.cancel(mPageDownTask);
+            cancelPrefetch();
+            if (isLastPage() && getMultiPageMode() == MULTI_MODE_FROM_COVER_TO_COVER) {
+                mIsStarted = false;
             }
         }
     }
 
+    /**
+     * 因为某个原因挂起轮播。
+     *
+     * @param reason 挂起的原因。
+     */
+    void suspend(int reason) {
+        mSuspendFlags |= reason;
+        pause();
+    }
+
+    /**
+     * 移除某个挂起原因，如果已经没有任何挂起原因了则恢复轮播。
+     *
+     * @param reason 要移除的挂起原因。
+     */
+    void resume(int reason) {
+        if ((mSuspendFlags & reason) != 0) {
+            mSuspendFlags &= ~reason;
+            reStart();
+            prefetchResources(mBannerView.getCurrentItem());
+        }
+    }
+
+    /**
+     * 是否因为某些原因被挂起(例如不可见)。被挂起时不会自动翻页也不应该做任何预加载的工作。
+     */
+    boolean isSuspended() {
+        return mSuspendFlags != 0;
+    }
+
+    /**
+     * 丢弃所有缓存的页面，正在显示的页面不受影响。
+     *
+     * @return 返回被丢弃的页面数量。
+     */
+    int trimCache() {
+        return mAdapter.trimCache();
+    }
+
+    /**
+     * 按级别释放内存，解码后的图片由{@link BannerMemoryTrimmer}统一释放。
+     *
+     * @param level 释放的级别，{@link #TRIM_LEVEL_OFFSCREEN}时还会解除所有不可见的页面的数据绑定，这些页面会在下次滑动前重新绑定。
+     * @return 返回被丢弃或解除绑定的页面数量。
+     */
+    int trimMemory(int level) {
+        int count = mAdapter.trimCache();
+        if (level >= TRIM_LEVEL_OFFSCREEN && !mAdapter.isEmpty()) {
+            computeVisibleRange(mVisibleRange);
+            count += mAdapter.unbindOffscreenPages(mCurrentItem, mVisibleRange[0], mVisibleRange[1]);
+        }
+        return count;
+    }
+
+    /**
+     * 设置页面缓存池，多个BannerView可以共享同一个缓存池。
+     *
+     * @param pool 页面缓存池。
+     */
+    void setPagePool(@NonNull BannerPagePool pool) {
+        mAdapter.setPagePool(pool);
+    }
+
+    BannerPagePool getPagePool() {
+        return mAdapter.getPagePool();
+    }
+
+    /**
+     * 释放所有的页面及回调，一般在宿主被销毁时调用。释放后如果需要再次使用则需要重新调用setEntries方法。
+     *
+     * @return 返回被释放的页面数量。
+     */
+    int release() {
+        stop();
+        mVisibilityTracker.detach();
+        int count = mAdapter.trimCache() + mBannerView.getChildCount();
+        mBannerView.setAdapter(null);
+        //setAdapter(null)时被销毁的页面会再次进入缓存。
+        mAdapter.trimCache();
+        mAdapter.mItems = null;
+        mListenerInfo = null;
+        mResourcePrefetcher.reset();
+        return count;
+    }
+
     void selectCenterPage(int offset) {
         if (mAdapter.mItems != null) {
             if (mAdapter.getItemSize() == 1) {
@@ -540,12 +932,13 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         }
         pagerBox.setClipChildren(false);
         viewPager.setClipChildren(false);
-        viewPager.setOffscreenPageLimit(3);
+        mSidePagesVisible = true;
         ViewGroup.MarginLayoutParams lp = (ViewGroup.MarginLayoutParams) viewPager.getLayoutParams();
         int margin = dp2px(showWidthDp > 0 ? showWidthDp : 12);
         lp.setMargins(margin, lp.topMargin, margin, lp.bottomMargin);
         viewPager.setLayoutParams(lp);
         viewPager.setPageTransformer(reverseDrawingOrder, pageTransformer == null ? new CenterBigTransformer(0.9f) : pageTransformer);
+        requestOffscreenPageLimitUpdate();
     }
 
     private int dp2px(int dp) {
@@ -593,16 +986,14 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
     @Override
     public void onPageSelected(int position) {
         mCurrentItem = position;
+        mAdapter.rebindTrimmedPages();
+        preInflatePages(position);
+        prefetchResources(position);
         int index = mAdapter.getIndex(position);
         if (mIndicatorEnable) {
             mIndicatorView.setCurrentPage(index);
         }
-        if (mTitleView != null) {
-            mTitleView.setText(mAdapter.getItem(position).getTitle());
-        }
-        if (mSubTitleView != null) {
-            mSubTitleView.setText(mAdapter.getItem(position).getSubTitle());
-        }
+        BannerEngineSupport.showTitles(mTitleView, mSubTitleView, mAdapter.getItem(position));
         if (getPageListenerInfo().onChangedListener != null) {
             getPageListenerInfo().onChangedListener.onPageSelected(mAdapter.getItem(position), index);
         }
@@ -615,6 +1006,9 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
     public void onPageScrolled(int position, float positionOffset, int positionOffsetPixels) {
         mCurPositionOffset = positionOffset;
         mCurrentTouchingPage = position;
+        if (mScrollState != ViewPager.SCROLL_STATE_IDLE) {
+            updatePageLayers();
+        }
         if (getPageListenerInfo().onChangedListener != null) {
             getPageListenerInfo().onChangedListener.onPageScrolled(mAdapter.getIndex(position), positionOffset, positionOffsetPixels);
         }
@@ -625,6 +1019,11 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
 
     @Override
     public void onPageScrollStateChanged(int state) {
+        mScrollState = state;
+        updatePageLayers();
+        if (state != ViewPager.SCROLL_STATE_IDLE) {
+            mAdapter.rebindTrimmedPages();
+        }
         if (state == ViewPager.SCROLL_STATE_SETTLING && mCurPositionOffset != NOTHING_INT && mCurrentTouchingPage != NOTHING_INT) {
             int nextPage = mBannerView.determineTargetPage(mCurrentTouchingPage, mCurPositionOffset);
             float cardinal = 1;
@@ -638,19 +1037,12 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
             mCurrentTouchingPage = NOTHING_INT;
         } else if (state == ViewPager.SCROLL_STATE_IDLE) {
             mScroller.setCardinal(1);
-            if ((isLastPage() || mCurrentItem == 0) && isInfiniteLoopMode()) {
-                mBannerView.setCurrentItem(mAdapter.getItemSize(), false);
-                if (mTransformer != null) {
-                    int childCount = mBannerView.getChildCount();
-                    for (int i = 0; i < childCount; i++) {
-                        View child = mBannerView.getChildAt(i);
-                        int layoutPosition = (int) child.getTag(ViewBannerAdapter.KEY_LAYOUT_POSITION);
-                        int currentItem = mBannerView.getCurrentItem();
-                        if (layoutPosition != currentItem) {
-                            mTransformer.transformPage(child, layoutPosition - currentItem);
-                        }
-                    }
-                }
+            if (isInfiniteLoopMode() && mAdapter.isNearEdge(mCurrentItem)) {
+                recenterInfiniteLoop();
+            }
+            if (mPrefetchPending) {
+                mPrefetchPending = false;
+                queuePrefetchIdleHandler();
             }
         }
         if (getPageListenerInfo().onChangedListener != null) {
@@ -662,6 +1054,24 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
     }
 
 
+    /**
+     * 无限轮播模式下回到中间轮次中相同索引的页面。由于虚拟页面的数量足够多，只有在连续翻过了上千页以后才会发生。
+     */
+    private void recenterInfiniteLoop() {
+        mBannerView.setCurrentItem(mAdapter.getCenterPageNumber() + mAdapter.getIndex(mCurrentItem), false);
+        if (mTransformer != null) {
+            int childCount = mBannerView.getChildCount();
+            int currentItem = mBannerView.getCurrentItem();
+            for (int i = 0; i < childCount; i++) {
+                View child = mBannerView.getChildAt(i);
+                int layoutPosition = (int) child.getTag(ViewBannerAdapter.KEY_LAYOUT_POSITION);
+                if (layoutPosition != currentItem) {
+                    mTransformer.transformPage(child, layoutPosition - currentItem);
+                }
+            }
+        }
+    }
+
     /**
      * 页面被点击的时候执行。
      *
@@ -687,10 +1097,8 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
     }
 
     void setSinglePageMode(int singlePageMode) {
-        singlePageMode &= 0x0f;
-        if ((singlePageMode == SINGLE_MODE_NO_INDICATOR
-                || singlePageMode == SINGLE_MODE_CAN_NOT_PAGING
-                || singlePageMode == (SINGLE_MODE_NO_INDICATOR | SINGLE_MODE_CAN_NOT_PAGING))
+        singlePageMode &= BannerEngineSupport.SINGLE_PAGE_MODE_MASK;
+        if (BannerEngineSupport.isValidSinglePageMode(singlePageMode)
                 && (getSinglePageModeFlags() & singlePageMode) != singlePageMode) {
             mPageModeFlags = getMultiPageMode() | singlePageMode;
         }
@@ -708,25 +1116,15 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
             ViewGroup parent = (ViewGroup) mBannerView.getParent();
             if (parent != null) {
                 if (mIndicatorId != View.NO_ID) {
-                    setIndicatorView(findView(parent, mIndicatorId, "PointIndicator"));
+                    setIndicatorView(BannerEngineSupport.findIndicatorView(parent, mIndicatorId));
                     mIndicatorId = View.NO_ID;
                 }
                 if (mTitleViewId != View.NO_ID) {
-                    View titleView = findView(parent, mTitleViewId, "TitleView");
-                    if (titleView instanceof TextView) {
-                        setTitleView((TextView) titleView);
-                    } else {
-                        throw new ClassCastException("The bannerIndicator attribute in XML must be the resource id of the TextView！");
-                    }
+                    setTitleView(BannerEngineSupport.findTextView(parent, mTitleViewId, "TitleView"));
                     mTitleViewId = View.NO_ID;
                 }
                 if (mSubTitleViewId != View.NO_ID) {
-                    View subTitleView = findView(parent, mSubTitleViewId, "SubTitleView");
-                    if (subTitleView instanceof TextView) {
-                        setSubTitleView((TextView) subTitleView);
-                    } else {
-                        throw new ClassCastException("The bannerIndicator attribute in XML must be the resource id of the TextView！");
-                    }
+                    setSubTitleView(BannerEngineSupport.findTextView(parent, mSubTitleViewId, "SubTitleView"));
                     mSubTitleViewId = View.NO_ID;
                 }
             }
@@ -742,42 +1140,194 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         return mAdapter != null && getMultiPageMode() == MULTI_MODE_INFINITE_LOOP && canPaging(mAdapter.getItems());
     }
 
-    private View findView(ViewGroup view, int viewId, String desc) {
-        View v = view.findViewById(viewId);
-        if (v == null) {
-            ViewParent parent = view.getParent();
-            if (parent instanceof ViewGroup) {
-                return findView((ViewGroup) parent, viewId, desc);
-            } else {
-                throw new Resources.NotFoundException("the " + desc + " view id is not found!");
-            }
+    /**
+     * 更新翻页动画。
+     *
+     * @param transformer   翻页动画。
+     * @param pageLayerType 翻页期间页面所使用的图层类型，如果翻页动画实现了{@link LayeredPageTransformer}则以它声明的为准。
+     */
+    void updatePageTransformer(ViewPager.PageTransformer transformer, int pageLayerType) {
+        mTransformer = transformer;
+        mPageLayerType = transformer instanceof LayeredPageTransformer ? ((LayeredPageTransformer) transformer).getPageLayerType() : pageLayerType;
+        for (int i = 0, count = mBannerView.getChildCount(); i < count; i++) {
+            //新的翻页动画可能不会再管理这些图层了。
+            BasePageTransformer.releaseAlphaLayer(mBannerView.getChildAt(i));
         }
-        return v;
+        updatePageLayers();
+        requestOffscreenPageLimitUpdate();
     }
 
-    void updatePageTransformer(ViewPager.PageTransformer transformer) {
-        mTransformer = transformer;
+    /**
+     * 设置是否根据可见的宽度自动计算离屏页面的数量。
+     *
+     * @param adaptive true表示自动计算，false表示使用手动设置的数量。
+     */
+    void setOffscreenPageLimitAdaptive(boolean adaptive) {
+        mOffscreenPageLimitAdaptive = adaptive;
+        requestOffscreenPageLimitUpdate();
     }
 
-    void onWindowVisibilityChanged(int visibility) {
-        if (lastVisibilityStatus != visibility) {
-            lastVisibilityStatus = visibility;
-            if (visibility == View.GONE) {
-                pause();
-            } else {
-                findRelevantViews();
-                reStart();
-                try {
-                    Method method = ViewPager.class.getDeclaredMethod("scrollToItem", int.class, boolean.class, int.class, boolean.class);
-                    method.setAccessible(true);
-                    method.invoke(mBannerView, mBannerView.getCurrentItem(), false, 0, false);
-                    Field mFirstLayout = BannerHelper.getField(ViewPager.class, "mFirstLayout");
-                    mFirstLayout.setBoolean(mBannerView, false);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            }
-        }
+    boolean isOffscreenPageLimitAdaptive() {
+        return mOffscreenPageLimitAdaptive;
+    }
+
+    /**
+     * 在下一帧重新计算离屏页面的数量，页面的尺寸、页面的间距、左右两边可见的宽度以及翻页动画改变后都需要重新计算。
+     */
+    void requestOffscreenPageLimitUpdate() {
+        if (mOffscreenPageLimitAdaptive) {
+            mBannerView.removeCallbacks(mOffscreenPageLimitRunnable);
+            mBannerView.post(mOffscreenPageLimitRunnable);
+        }
+    }
+
+    /**
+     * 计算能够覆盖所有可能被看到的页面的最小离屏页面数量：翻页期间当前页最多偏移一个页面，再加上BannerView两边可见的宽度能够容纳的页面，
+     * 以及翻页动画能够朝当前页平移的页面。
+     */
+    private void updateOffscreenPageLimit() {
+        int pageWidth = mBannerView.getWidth() - mBannerView.getPaddingLeft() - mBannerView.getPaddingRight();
+        if (!mOffscreenPageLimitAdaptive || pageWidth <= 0) {
+            return;
+        }
+        int stride = pageWidth + mBannerView.getPageMargin();
+        int sideWidth = 0;
+        ViewParent parent = mBannerView.getParent();
+        if (mSidePagesVisible && parent instanceof View) {
+            sideWidth = Math.max(mBannerView.getLeft(), ((View) parent).getWidth() - mBannerView.getRight());
+        }
+        float translationPages = mTransformer instanceof BasePageTransformer ? ((BasePageTransformer) mTransformer).getMaxTranslationPages() : 0;
+        int limit = computeOffscreenPageLimit(stride, sideWidth, translationPages);
+        if (limit != mBannerView.getOffscreenPageLimit()) {
+            mBannerView.applyOffscreenPageLimit(limit);
+        }
+    }
+
+    /**
+     * 计算离屏页面的数量。
+     *
+     * @param stride           一个页面所占的宽度，即页面的宽度加上页面的间距。
+     * @param sideWidth        BannerView两边可见的宽度中较大的一个。
+     * @param translationPages 翻页动画能够朝当前页平移的页面数量。
+     * @return 返回当前页两边各需要保留的页面数量。
+     */
+    static int computeOffscreenPageLimit(int stride, int sideWidth, float translationPages) {
+        return 1 + (sideWidth + stride - 1) / stride + (int) Math.ceil(translationPages);
+    }
+
+    /**
+     * 设置是否允许在翻页期间为页面使用图层。
+     *
+     * @param enable true表示允许，false表示不允许。
+     */
+    void setPageLayerEnable(boolean enable) {
+        mPageLayerEnable = enable;
+        updatePageLayers();
+    }
+
+    boolean isPageLayerEnable() {
+        return mPageLayerEnable;
+    }
+
+    /**
+     * 是否显示了左右两边的页面。
+     */
+    boolean isSidePagesVisible() {
+        return mSidePagesVisible;
+    }
+
+    /**
+     * 在翻页期间将可见的页面提升为图层，不可见的页面以及停止滚动后的所有页面都会移除图层，这样图层只会在真正需要它的时候占用内存。
+     */
+    private void updatePageLayers() {
+        boolean scrolling = mScrollState != ViewPager.SCROLL_STATE_IDLE && mTransformer != null && mPageLayerEnable;
+        int layerType = scrolling ? mPageLayerType : View.LAYER_TYPE_NONE;
+        if (mTransformer instanceof BasePageTransformer) {
+            //半透明页面的图层与翻页期间的图层遵循同样的规则。
+            ((BasePageTransformer) mTransformer).setAlphaLayerEnable(scrolling);
+        }
+        computeVisibleRange(mVisibleRange);
+        int left = mVisibleRange[0];
+        int right = mVisibleRange[1];
+        for (int i = 0, count = mBannerView.getChildCount(); i < count; i++) {
+            View child = mBannerView.getChildAt(i);
+            if (((ViewPager.LayoutParams) child.getLayoutParams()).isDecor) {
+                continue;
+            }
+            if (BasePageTransformer.isHoldingAlphaLayer(child)) {
+                if (scrolling) {
+                    //半透明的页面的图层由翻页动画管理，但是ViewPager在滚动状态改变时会把它重置，所以要恢复回来。
+                    BasePageTransformer.restoreAlphaLayer(child);
+                    continue;
+                }
+                BasePageTransformer.releaseAlphaLayer(child);
+            }
+            int type = View.LAYER_TYPE_NONE;
+            if (layerType != View.LAYER_TYPE_NONE && isPageInRange(child, left, right)) {
+                type = layerType;
+            }
+            if (child.getLayerType() != type) {
+                child.setLayerType(type, null);
+            }
+        }
+    }
+
+    /**
+     * 计算可见区域在BannerView的坐标系(已经滚动了scrollX)中的横向范围，显示左右两边的页面时为父布局的范围。
+     *
+     * @param outRange 用来接收结果，[0]为左边界，[1]为右边界。
+     */
+    private void computeVisibleRange(int[] outRange) {
+        int left = mBannerView.getScrollX();
+        int right = left + mBannerView.getWidth();
+        ViewParent parent = mBannerView.getParent();
+        if (mSidePagesVisible && parent instanceof View) {
+            left -= mBannerView.getLeft();
+            right = left + ((View) parent).getWidth();
+        }
+        outRange[0] = left;
+        outRange[1] = right;
+    }
+
+    /**
+     * 判断页面在平移后是否与[left, right)的范围有交集。
+     */
+    private static boolean isPageInRange(View child, int left, int right) {
+        float childLeft = child.getLeft() + child.getTranslationX();
+        return childLeft < right && childLeft + child.getWidth() > left;
+    }
+
+    void onWindowVisibilityChanged(int visibility) {
+        if (lastVisibilityStatus != visibility) {
+            lastVisibilityStatus = visibility;
+            if (visibility == View.GONE) {
+                suspend(SUSPEND_WINDOW_GONE);
+            } else {
+                findRelevantViews();
+                resume(SUSPEND_WINDOW_GONE);
+                if (mBannerView.isFirstLayout()) {
+                    //被重新添加到窗口后(例如在RecyclerView中被复用)立即完成第一次布局，否则接下来的翻页将没有动画。
+                    mBannerView.relayoutPages();
+                }
+            }
+        }
+    }
+
+    void onAttachedToWindow() {
+        mVisibilityTracker.attach();
+    }
+
+    void onDetachedFromWindow() {
+        mVisibilityTracker.detach();
+    }
+
+    @Override
+    public void onVisibleChanged(boolean visible) {
+        if (visible) {
+            resume(SUSPEND_INVISIBLE);
+        } else {
+            suspend(SUSPEND_INVISIBLE);
+        }
     }
 
     private void postInitFirstPageScrolled() {
@@ -836,7 +1386,7 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         }
     }
 
-    private static class BannerInterpolator implements Interpolator {
+    static class BannerInterpolator implements Interpolator {
         @Override
         public float getInterpolation(float t) {
             t -= 1.0f;
@@ -860,73 +1410,416 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
          * 用来存放和获取索引的TAG。
          */
         private static final int KEY_LAYOUT_POSITION = 0x1000_0001;
+        /**
+         * 用来存放和获取页面类型的TAG。
+         */
+        private static final int KEY_VIEW_TYPE = 0x1000_0002;
+        /**
+         * 用来存放和获取页面所属的BannerHelper的TAG，共享缓存池中的页面可能是由其他的BannerView创建的。
+         */
+        private static final int KEY_OWNER = 0x1000_0003;
+        /**
+         * 用来存放和获取页面当前绑定的模型对象的TAG。
+         */
+        private static final int KEY_ENTRY = 0x1000_0004;
+        /**
+         * 用来标记页面因为内存不足而被解除了数据绑定的TAG。
+         */
+        private static final int KEY_TRIMMED = 0x1000_0005;
+        /**
+         * 无限轮播模式下虚拟页面数量的上限。ViewPager使用float累加每一页的偏移量，所以虚拟页面不能无限多，
+         * 2000页时偏移量的误差依然远小于一个像素。
+         */
+        private static final int MAX_LOOP_PAGE_COUNT = 2000;
+        /**
+         * 无限轮播模式下最少的轮次，保证中间的一轮的两侧都至少还有一整轮。
+         */
+        private static final int MIN_LOOP_ROUNDS = 3;
         /**
          * 用来存放所有页面的模型对象。
          */
         private List<? extends BannerEntry> mItems;
         /**
-         * 用来放置可以复用的页面的View。
+         * 用来放置可以复用的页面的View，只有没有声明页面类型的页面才会放入这里，且只会被相同索引的页面复用。
+         * 超出容量时最近最少使用的页面会被丢弃。
+         */
+        private PageCache itemViewCache = new PageCache(DEFAULT_PAGE_CACHE_SIZE);
+        /**
+         * 最多缓存的页面数量，0表示不缓存。
+         */
+        private int mPageCacheSize = DEFAULT_PAGE_CACHE_SIZE;
+        /**
+         * 用来放置声明了页面类型的页面，相同类型的页面之间可以相互复用，该缓存池可以被多个BannerView共享。
          */
-        private SparseArray<View> itemViewCache = new SparseArray<>();
+        private BannerPagePool mPagePool = new BannerPagePool();
         /**
          * 缓存是否可用。
          */
         private boolean cacheAvailable = true;
+        /**
+         * 增量更新时旧的索引到新的索引的映射，只在{@link #applyDiff(List, int)}执行期间不为null。
+         */
+        private SparseIntArray mIndexMapping;
+        /**
+         * 增量更新前当前页的位置。
+         */
+        private int mDiffOldCurrent;
+        /**
+         * 增量更新后当前页的位置。
+         */
+        private int mDiffNewCurrent;
+        /**
+         * 增量更新时已经被分配出去的位置，用来避免两个页面被放到同一个位置上。
+         */
+        private final SparseIntArray mClaimedPositions = new SparseIntArray();
+        /**
+         * 在空闲时提前创建并绑定了数据的页面。
+         */
+        private View mPrebound;
+        /**
+         * 提前绑定的页面的位置。
+         */
+        private int mPreboundPosition;
+        /**
+         * 是否有因为内存不足而被解除了数据绑定的页面。
+         */
+        private boolean mHasTrimmedPages;
 
         @NonNull
         @Override
         public View instantiateItem(@NonNull ViewGroup container, int position) {
             if (!cacheAvailable) {
-                itemViewCache.clear();
+                //声明了页面类型的页面与模型无关，所以缓存池中的页面依然可以使用。
+                itemViewCache.evictAll();
                 cacheAvailable = true;
             }
             int index = getIndex(position);
-            View entryView = itemViewCache.get(index);
             BannerEntry bannerEntry = mItems.get(index);
+            View entryView;
+            if (mPrebound != null && mPreboundPosition == position && mPrebound.getTag(KEY_ENTRY) == bannerEntry) {
+                //已经在空闲时创建并绑定过了。
+                entryView = mPrebound;
+                mPrebound = null;
+            } else {
+                entryView = obtainPage(container, index, bannerEntry);
+                bindPage(entryView, index, bannerEntry);
+            }
+            entryView.setTag(KEY_LAYOUT_POSITION, position);
+            container.addView(entryView);
+            return entryView;
+        }
+
+        /**
+         * 获取一个可以用来显示模型的页面，优先复用缓存的页面，没有可以复用的页面时才会创建。
+         *
+         * @param container 页面的父布局。
+         * @param index     模型的索引。
+         * @param entry     模型对象。
+         * @return 返回还没有绑定数据的页面。
+         */
+        private View obtainPage(ViewGroup container, int index, BannerEntry entry) {
+            int viewType = getViewType(entry);
+            View entryView;
+            if (viewType == TypedBannerEntry.NO_VIEW_TYPE) {
+                entryView = itemViewCache.get(index);
+                if (entryView != null) {
+                    itemViewCache.remove(index);
+                }
+            } else {
+                entryView = mPagePool.acquire(viewType);
+            }
             if (entryView == null) {
-                entryView = bannerEntry.onCreateView(container);
+                if (mAsyncInflater != null) {
+                    entryView = mAsyncInflater.take(index, entry);
+                }
+                if (entryView == null) {
+                    entryView = entry.onCreateView(container);
+                }
                 if (entryView.getParent() != null) {
                     throw new IllegalStateException("The specified child already has a parent. You must call removeView() on the child's parent first.");
                 }
-                entryView.setTag(KEY_INDEX_TAG, index);
-                if (isTouchPauseEnable()) {
-                    entryView.setOnTouchListener(BannerHelper.this);
-                }
-            } else {
-                itemViewCache.remove(index);
+                entryView.setTag(KEY_VIEW_TYPE, viewType);
             }
-            bannerEntry.onBindData(entryView);
+            if (entryView.getTag(KEY_OWNER) != BannerHelper.this) {
+                adoptPage(entryView);
+            }
+            return entryView;
+        }
+
+        /**
+         * 为页面绑定数据及监听。
+         *
+         * @param entryView 要绑定的页面。
+         * @param index     模型的索引。
+         * @param entry     模型对象。
+         */
+        private void bindPage(View entryView, int index, BannerEntry entry) {
+            entryView.setTag(KEY_INDEX_TAG, index);
+            entryView.setTag(KEY_ENTRY, entry);
+            entry.onBindData(entryView);
             if (getPageListenerInfo().onClickListener != null) {
                 entryView.setOnClickListener(this);
             }
             if (getPageListenerInfo().onLongClickListener != null) {
                 entryView.setOnLongClickListener(this);
             }
-            entryView.setTag(KEY_LAYOUT_POSITION, position);
-            container.addView(entryView);
-            return entryView;
         }
 
         @Override
         public void destroyItem(@NonNull ViewGroup container, int position, @NonNull Object object) {
-            int index = getIndex(position);
-            View view = (View) object;
+            recyclePage(container, (View) object);
+        }
+
+        /**
+         * 解除页面的数据绑定并将页面放入缓存。
+         *
+         * @param container 页面的父布局，如果页面还没有被添加到父布局中则为null。
+         * @param view      要回收的页面。
+         */
+        private void recyclePage(@Nullable ViewGroup container, View view) {
+            int index = (int) view.getTag(KEY_INDEX_TAG);
+            //增量更新后position及数据源都可能已经改变了，所以使用页面绑定时的模型。
+            BannerEntry entry = (BannerEntry) view.getTag(KEY_ENTRY);
+            if (view.getTag(KEY_TRIMMED) != null) {
+                //已经解除过绑定了。
+                view.setTag(KEY_TRIMMED, null);
+            } else {
+                unbindPage(view, entry);
+            }
+            int viewType = (int) view.getTag(KEY_VIEW_TYPE);
+            if (viewType != TypedBannerEntry.NO_VIEW_TYPE) {
+                //即使缓存不可用(数据源被替换)，声明了页面类型的页面依然可以被其他相同类型的模型复用。
+                if (container != null) {
+                    container.removeView(view);
+                }
+                releaseToPool(viewType, view);
+            } else if (cacheAvailable) {
+                if (container != null) {
+                    container.removeView(view);
+                }
+                //如果该索引的模型已经被替换了则页面中的数据已经过时，不能再缓存。
+                if (mPageCacheSize > 0 && index < getItemSize() && mItems.get(index) == entry && itemViewCache.get(index) == null) {
+                    itemViewCache.put(index, view);
+                }
+            }
+        }
+
+        /**
+         * 解除页面的数据绑定并释放页面中的图片。
+         */
+        private void unbindPage(View view, BannerEntry entry) {
+            BannerImageLoader.recyclePage(view);
             try {
-                mItems.get(index).unbindData(view);
+                entry.unbindData(view);
             } catch (Exception e) {
                 e.printStackTrace();
             }
-            if (cacheAvailable) {
-                container.removeView(view);
-                if (itemViewCache.get(index) == null) {
-                    itemViewCache.put(index, view);
+        }
+
+        /**
+         * 解除除当前页以及可见的页面以外所有已经创建的页面的数据绑定，页面依然保留在ViewPager中，再次滑动或切换页面前会通过{@link #rebindTrimmedPages()}重新绑定。
+         * 显示左右两边的页面时两边的页面也是可见的，所以不能解除它们的绑定，否则它们会一直是空白的。
+         *
+         * @param currentPosition 当前页的位置。
+         * @param visibleLeft     可见区域的左边界。
+         * @param visibleRight    可见区域的右边界。
+         * @return 返回被解除绑定的页面数量。
+         */
+        int unbindOffscreenPages(int currentPosition, int visibleLeft, int visibleRight) {
+            int count = 0;
+            for (int i = 0, childCount = mBannerView.getChildCount(); i < childCount; i++) {
+                View child = mBannerView.getChildAt(i);
+                Object position = child.getTag(KEY_LAYOUT_POSITION);
+                if (position != null && (int) position != currentPosition && child.getTag(KEY_TRIMMED) == null
+                        && !isPageInRange(child, visibleLeft, visibleRight)) {
+                    unbindPage(child, (BannerEntry) child.getTag(KEY_ENTRY));
+                    child.setTag(KEY_TRIMMED, Boolean.TRUE);
+                    count++;
+                }
+            }
+            mHasTrimmedPages |= count > 0;
+            return count;
+        }
+
+        /**
+         * 重新绑定所有因为内存不足而被解除了数据绑定的页面。
+         */
+        void rebindTrimmedPages() {
+            if (!mHasTrimmedPages) {
+                return;
+            }
+            mHasTrimmedPages = false;
+            for (int i = 0, childCount = mBannerView.getChildCount(); i < childCount; i++) {
+                View child = mBannerView.getChildAt(i);
+                if (child.getTag(KEY_TRIMMED) != null) {
+                    child.setTag(KEY_TRIMMED, null);
+                    bindPage(child, (int) child.getTag(KEY_INDEX_TAG), (BannerEntry) child.getTag(KEY_ENTRY));
+                }
+            }
+        }
+
+        /**
+         * 判断某个位置的页面是否已经被ViewPager创建了。
+         *
+         * @param position 页面的位置。
+         */
+        boolean isInstantiated(int position) {
+            for (int i = 0, count = mBannerView.getChildCount(); i < count; i++) {
+                Object tag = mBannerView.getChildAt(i).getTag(KEY_LAYOUT_POSITION);
+                if (tag != null && (int) tag == position) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 提前创建某个位置的页面并绑定数据，ViewPager创建该位置的页面时会直接使用，这样翻页时就只剩下变换及绘制的工作了。
+         * 同一时间只会保留一个这样的页面。
+         *
+         * @param position 页面的位置。
+         */
+        void prebind(int position) {
+            if (!cacheAvailable || position < 0 || position >= getCount() || isInstantiated(position)) {
+                return;
+            }
+            int index = getIndex(position);
+            BannerEntry entry = mItems.get(index);
+            if (mPrebound != null) {
+                if (mPreboundPosition == position && mPrebound.getTag(KEY_ENTRY) == entry) {
+                    return;
                 }
+                recyclePrebound();
+            }
+            View entryView = obtainPage(mBannerView, index, entry);
+            bindPage(entryView, index, entry);
+            mPrebound = entryView;
+            mPreboundPosition = position;
+        }
+
+        /**
+         * 回收提前绑定的页面。
+         *
+         * @return 如果有提前绑定的页面则返回1，否则返回0。
+         */
+        private int recyclePrebound() {
+            if (mPrebound == null) {
+                return 0;
+            }
+            View view = mPrebound;
+            mPrebound = null;
+            recyclePage(null, view);
+            return 1;
+        }
+
+        /**
+         * 接管一个页面，页面可能是新创建的，也可能是从共享的缓存池中获取的页面。
+         *
+         * @param entryView 要接管的页面。
+         */
+        private void adoptPage(View entryView) {
+            entryView.setTag(KEY_OWNER, BannerHelper.this);
+            entryView.setOnTouchListener(isTouchPauseEnable() ? BannerHelper.this : null);
+        }
+
+        /**
+         * 将页面放入缓存池。缓存池可能是多个BannerView共享的，所以放入前要清除当前BannerView设置的监听及标记，
+         * 否则缓存池中的页面会一直引用当前的BannerView，使已经被回收的BannerView(例如列表中被回收的条目)无法释放。
+         *
+         * @param viewType 页面类型。
+         * @param view     要放入的页面。
+         */
+        private void releaseToPool(int viewType, View view) {
+            view.setTag(KEY_OWNER, null);
+            view.setTag(KEY_ENTRY, null);
+            view.setOnTouchListener(null);
+            if (getPageListenerInfo().onClickListener != null) {
+                view.setOnClickListener(null);
+                view.setClickable(false);
+            }
+            if (getPageListenerInfo().onLongClickListener != null) {
+                view.setOnLongClickListener(null);
+                view.setLongClickable(false);
+            }
+            mPagePool.release(viewType, view);
+        }
+
+        /**
+         * 如果某个位置的页面在将来创建时没有可以复用的View，则在后台线程中提前创建。
+         *
+         * @param position 页面的位置。
+         */
+        void preInflate(int position) {
+            if (position < 0 || position >= getCount()) {
+                return;
+            }
+            int index = getIndex(position);
+            BannerEntry entry = mItems.get(index);
+            int viewType = getViewType(entry);
+            boolean reusable = viewType == TypedBannerEntry.NO_VIEW_TYPE ? itemViewCache.get(index) != null : mPagePool.getRecycledPageCount(viewType) > 0;
+            if (!reusable) {
+                mAsyncInflater.inflate(index, entry, mBannerView);
+            }
+        }
+
+        /**
+         * 只保留当前页前后distance个位置以内的页面的提前创建结果，超出这个范围的页面在下一次翻页前不会被用到。
+         *
+         * @param position 当前页的位置。
+         * @param distance 需要保留的距离。
+         */
+        void retainPreInflated(int position, int distance) {
+            SparseBooleanArray keep = new SparseBooleanArray(distance * 2 + 1);
+            for (int p = Math.max(0, position - distance), end = Math.min(getCount() - 1, position + distance); p <= end; p++) {
+                keep.put(getIndex(p), true);
             }
+            mAsyncInflater.retain(keep);
+        }
+
+        /**
+         * 设置页面缓存池。
+         *
+         * @param pool 页面缓存池。
+         */
+        void setPagePool(@NonNull BannerPagePool pool) {
+            mPagePool = pool;
+        }
+
+        BannerPagePool getPagePool() {
+            return mPagePool;
+        }
+
+        /**
+         * 获取模型的页面类型。
+         *
+         * @param entry 模型对象。
+         * @return 返回页面类型，如果模型没有声明页面类型则返回{@link TypedBannerEntry#NO_VIEW_TYPE}。
+         */
+        private int getViewType(BannerEntry entry) {
+            return entry instanceof TypedBannerEntry ? Math.max(((TypedBannerEntry) entry).getViewType(), TypedBannerEntry.NO_VIEW_TYPE) : TypedBannerEntry.NO_VIEW_TYPE;
         }
 
         @Override
         public int getCount() {
-            return mItems == null ? 0 : isInfiniteLoopMode() ? mItems.size() * 2 + mBannerView.getOffscreenPageLimit() : mItems.size();
+            return mItems == null ? 0 : isInfiniteLoopMode() ? mItems.size() * getLoopRounds() : mItems.size();
+        }
+
+        /**
+         * 获取无限轮播模式下的轮次，每一轮都包含所有的模型。
+         */
+        private int getLoopRounds() {
+            return Math.max(MIN_LOOP_ROUNDS, MAX_LOOP_PAGE_COUNT / mItems.size());
+        }
+
+        /**
+         * 判断某个位置是否已经接近了虚拟页面的边缘(第一轮或最后一轮)。
+         *
+         * @param position 要判断的位置。
+         * @return 如果接近边缘则返回true，否则返回false。
+         */
+        boolean isNearEdge(int position) {
+            int size = getItemSize();
+            return position < size || position >= getCount() - size;
         }
 
         @Override
@@ -951,7 +1844,95 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
 
         @Override
         public int getItemPosition(@NonNull Object object) {
-            return POSITION_NONE;
+            if (mIndexMapping == null) {
+                return POSITION_NONE;
+            }
+            View view = (View) object;
+            int index = mIndexMapping.get((int) view.getTag(KEY_INDEX_TAG), NOTHING_INT);
+            if (index == NOTHING_INT) {
+                return POSITION_NONE;
+            }
+            //尽量保持页面与当前页的相对位置。
+            int expected = mDiffNewCurrent + (int) view.getTag(KEY_LAYOUT_POSITION) - mDiffOldCurrent;
+            int position = index;
+            if (isInfiniteLoopMode()) {
+                int size = mItems.size();
+                position = expected - (expected % size + size) % size + index;
+                if (position - expected > size >>> 1) {
+                    position -= size;
+                } else if (expected - position > size >>> 1) {
+                    position += size;
+                }
+            }
+            if (position < 0 || position >= getCount() || mClaimedPositions.get(position, NOTHING_INT) != NOTHING_INT) {
+                return POSITION_NONE;
+            }
+            mClaimedPositions.put(position, index);
+            view.setTag(KEY_INDEX_TAG, index);
+            view.setTag(KEY_LAYOUT_POSITION, position);
+            view.setTag(KEY_ENTRY, mItems.get(index));
+            return position;
+        }
+
+        /**
+         * 对比新旧数据源并以增量的方式通知ViewPager，调用前新的数据源必须已经通过{@link #setItems(List)}设置。
+         * 与新数据源中某个模型相同(见{@link BannerEntryDiff#isUnchanged(BannerEntry, BannerEntry)})的页面会被移动到新的位置并保留原来的View，
+         * 被删除或改变了的页面会被销毁，新增的页面会由ViewPager重新创建。
+         *
+         * @param oldItems    旧的数据源。
+         * @param currentItem 当前页的位置。
+         * @return 返回更新后当前页的位置。
+         */
+        int applyDiff(List<? extends BannerEntry> oldItems, int currentItem) {
+            int oldSize = oldItems.size();
+            int newSize = mItems.size();
+            SparseIntArray mapping = new SparseIntArray(oldSize);
+            LongSparseArray<Integer> ids = BannerEntryDiff.indexStableIds(mItems);
+            boolean[] claimed = new boolean[newSize];
+            for (int i = 0; i < oldSize; i++) {
+                int index = BannerEntryDiff.findUnchanged(oldItems.get(i), i, mItems, ids, claimed);
+                if (index != BannerEntryDiff.NO_INDEX) {
+                    claimed[index] = true;
+                    mapping.put(i, index);
+                }
+            }
+            //如果当前页的模型被删除或改变了则停留在相同的索引上。
+            int oldIndex = currentItem % oldSize;
+            int newIndex = mapping.get(oldIndex, Math.min(oldIndex, newSize - 1));
+            int newCurrent = newIndex;
+            if (isInfiniteLoopMode()) {
+                newCurrent += oldSize == newSize ? currentItem - oldIndex : getCenterPageNumber();
+            }
+            //缓存的页面同样需要迁移到新的索引上，并且保持原来的使用顺序。
+            PageCache cache = new PageCache(itemViewCache.maxSize());
+            for (Map.Entry<Integer, View> cached : itemViewCache.snapshot().entrySet()) {
+                View view = cached.getValue();
+                int index = mapping.get(cached.getKey(), NOTHING_INT);
+                if (index != NOTHING_INT) {
+                    view.setTag(KEY_INDEX_TAG, index);
+                    view.setTag(KEY_ENTRY, mItems.get(index));
+                    cache.put(index, view);
+                } else {
+                    onPageEvicted(cached.getKey(), view);
+                }
+            }
+            itemViewCache = cache;
+            //提前绑定的页面的位置可能会改变，直接回收。
+            recyclePrebound();
+            //提前创建的页面是以旧的索引保存的，直接丢弃。
+            if (mAsyncInflater != null) {
+                mAsyncInflater.clear();
+            }
+            mIndexMapping = mapping;
+            mDiffOldCurrent = currentItem;
+            mDiffNewCurrent = newCurrent;
+            try {
+                notifyDataSetChanged();
+            } finally {
+                mIndexMapping = null;
+                mClaimedPositions.clear();
+            }
+            return newCurrent;
         }
 
         /**
@@ -969,24 +1950,7 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
         }
 
         boolean setItems(List<? extends BannerEntry> items) {
-            boolean successful = true;
-            if (mItems != null) {
-                if (mItems == items) {
-                    successful = false;
-                } else if (items.size() == mItems.size()) {
-                    successful = false;
-                    BannerEntry entry;
-                    BannerEntry newEntry;
-                    for (int i = 0; i < items.size(); i++) {
-                        entry = mItems.get(i);
-                        newEntry = items.get(i);
-                        if (!entry.theSame(newEntry)) {
-                            successful = true;
-                            break;
-                        }
-                    }
-                }
-            }
+            boolean successful = mItems == null || !BannerEntryDiff.isUnchanged(mItems, items);
             if (successful) {
                 mItems = items;
             }
@@ -1019,13 +1983,78 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
             return mItems == null ? 0 : mItems.size();
         }
 
+        /**
+         * 丢弃所有缓存的页面。
+         *
+         * @return 返回被丢弃的页面数量。
+         */
+        int trimCache() {
+            int size = recyclePrebound() + itemViewCache.size();
+            itemViewCache.evictAll();
+            if (mAsyncInflater != null) {
+                size += mAsyncInflater.clear();
+            }
+            return size + mPagePool.clear();
+        }
+
+        /**
+         * 设置最多缓存的页面数量，缩小容量时最近最少使用的页面会被丢弃。
+         *
+         * @param size 页面数量，0表示不缓存。
+         */
+        void setPageCacheSize(int size) {
+            mPageCacheSize = Math.max(0, size);
+            if (mPageCacheSize == 0) {
+                itemViewCache.evictAll();
+            } else {
+                itemViewCache.resize(mPageCacheSize);
+            }
+        }
+
+        int getPageCacheSize() {
+            return mPageCacheSize;
+        }
+
+        /**
+         * 缓存的页面被丢弃时调用，页面在放入缓存前就已经解除了数据绑定，所以这里只需要通知监听。
+         *
+         * @param index 页面的索引。
+         * @param view  被丢弃的页面。
+         */
+        private void onPageEvicted(int index, View view) {
+            if (mListenerInfo != null && mListenerInfo.onEvictedListener != null) {
+                mListenerInfo.onEvictedListener.onPageEvicted((BannerEntry) view.getTag(KEY_ENTRY), index, view);
+            }
+        }
+
         PagerAdapter clearCache() {
-            itemViewCache.clear();
+            recyclePrebound();
+            itemViewCache.evictAll();
+            if (mAsyncInflater != null) {
+                mAsyncInflater.clear();
+            }
             cacheAvailable = false;
             return this;
         }
     }
 
+    /**
+     * 以索引为key的页面缓存。
+     */
+    private class PageCache extends LruCache<Integer, View> {
+
+        private PageCache(int maxSize) {
+            super(Math.max(1, maxSize));
+        }
+
+        @Override
+        protected void entryRemoved(boolean evicted, @NonNull Integer key, @NonNull View oldValue, @Nullable View newValue) {
+            if (evicted) {
+                mAdapter.onPageEvicted(key, oldValue);
+            }
+        }
+    }
+
     private static class PageListenerInfo {
         /**
          * Banner的页面点击事件监听。
@@ -1035,6 +2064,10 @@ final class BannerHelper implements View.OnTouchListener, ViewPager.OnPageChange
          * Banner的页面长按事件监听。
          */
         private BannerView.OnPageLongClickListener onLongClickListener;
+        /**
+         * 缓存的页面被丢弃的监听。
+         */
+        private BannerView.OnPageEvictedListener onEvictedListener;
         /**
          * Banner的页面改变事件监听。
          */
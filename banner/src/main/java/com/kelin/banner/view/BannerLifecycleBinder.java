@@ -0,0 +1,85 @@
+package com.kelin.banner.view;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleEventObserver;
+import androidx.lifecycle.LifecycleOwner;
+
+/**
+ * 描述 将BannerView与宿主(Activity或Fragment)的生命周期进行绑定。
+ * <p>ON_STOP时暂停所有的翻页工作，ON_START时恢复，ON_DESTROY时释放所有的页面及回调。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午2:05
+ * 版本 v 1.0.0
+ */
+
+final class BannerLifecycleBinder implements LifecycleEventObserver {
+
+    private final BannerHelper mHelper;
+    private final BannerStats mStats;
+    private Lifecycle mLifecycle;
+    /**
+     * 是否正在接收addObserver同步补发的事件，补发的事件并不是宿主真正的状态改变，所以不计入统计。
+     */
+    private boolean mReplaying;
+
+    BannerLifecycleBinder(@NonNull BannerHelper helper, @NonNull BannerStats stats) {
+        mHelper = helper;
+        mStats = stats;
+    }
+
+    /**
+     * 绑定生命周期，如果之前已经绑定过了则会先解除之前的绑定。
+     *
+     * @param owner 宿主。
+     */
+    void bind(@NonNull LifecycleOwner owner) {
+        unbind();
+        mLifecycle = owner.getLifecycle();
+        //addObserver会同步地将宿主当前的状态分发过来。
+        mReplaying = true;
+        try {
+            mLifecycle.addObserver(this);
+        } finally {
+            mReplaying = false;
+        }
+        if (!mLifecycle.getCurrentState().isAtLeast(Lifecycle.State.STARTED)) {
+            mHelper.suspend(BannerHelper.SUSPEND_LIFECYCLE);
+        }
+    }
+
+    /**
+     * 解除绑定。
+     */
+    void unbind() {
+        if (mLifecycle != null) {
+            mLifecycle.removeObserver(this);
+            mLifecycle = null;
+            mHelper.resume(BannerHelper.SUSPEND_LIFECYCLE);
+        }
+    }
+
+    boolean isBound() {
+        return mLifecycle != null;
+    }
+
+    @Override
+    public void onStateChanged(@NonNull LifecycleOwner source, @NonNull Lifecycle.Event event) {
+        switch (event) {
+            case ON_START:
+                if (!mReplaying) {
+                    mStats.onStart();
+                }
+                mHelper.resume(BannerHelper.SUSPEND_LIFECYCLE);
+                break;
+            case ON_STOP:
+                mStats.onStop();
+                mHelper.suspend(BannerHelper.SUSPEND_LIFECYCLE);
+                break;
+            case ON_DESTROY:
+                mStats.onDestroy(mHelper.release());
+                unbind();
+                break;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.kelin.banner.view;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+
+import androidx.annotation.NonNull;
+
+import com.kelin.banner.image.BannerImageLoader;
+
+/**
+ * 描述 监听系统的内存不足通知并按级别释放BannerView占用的内存，BannerView添加到窗口时注册，从窗口移除时注销。
+ * <p>释放分为三个级别：{@link BannerHelper#TRIM_LEVEL_CACHE}只丢弃缓存的页面；{@link BannerHelper#TRIM_LEVEL_IMAGES}
+ * 还会清空内置图片加载器的内存缓存及Bitmap复用池；{@link BannerHelper#TRIM_LEVEL_OFFSCREEN}还会解除所有不可见的页面的数据绑定。
+ * 释放的页面数量及字节数会记录到{@link BannerStats}中。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午7:30
+ * 版本 v 1.0.0
+ */
+
+final class BannerMemoryTrimmer implements ComponentCallbacks2 {
+
+    private final BannerHelper mHelper;
+    private final BannerStats mStats;
+    private final Context mAppContext;
+    private boolean mRegistered;
+
+    BannerMemoryTrimmer(@NonNull Context context, @NonNull BannerHelper helper, @NonNull BannerStats stats) {
+        mAppContext = context.getApplicationContext();
+        mHelper = helper;
+        mStats = stats;
+    }
+
+    void register() {
+        if (!mRegistered) {
+            mRegistered = true;
+            mAppContext.registerComponentCallbacks(this);
+        }
+    }
+
+    void unregister() {
+        if (mRegistered) {
+            mRegistered = false;
+            mAppContext.unregisterComponentCallbacks(this);
+        }
+    }
+
+    /**
+     * 按级别释放内存。
+     *
+     * @param level 释放的级别。
+     */
+    void trim(int level) {
+        //先解除页面的绑定，这样页面中的图片才能在清空图片缓存时被真正释放。
+        int pages = mHelper.trimMemory(level);
+        int bytes = level >= BannerHelper.TRIM_LEVEL_IMAGES ? BannerImageLoader.releaseMemory() : 0;
+        mStats.onTrimMemory(level, pages, bytes);
+    }
+
+    /**
+     * 将系统的内存级别转换为释放的级别。
+     */
+    static int toTrimLevel(int level) {
+        if (level >= TRIM_MEMORY_COMPLETE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+            return BannerHelper.TRIM_LEVEL_OFFSCREEN;
+        } else if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_LOW) {
+            return BannerHelper.TRIM_LEVEL_IMAGES;
+        } else {
+            return BannerHelper.TRIM_LEVEL_CACHE;
+        }
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        trim(toTrimLevel(level));
+    }
+
+    @Override
+    public void onLowMemory() {
+        mStats.onLowMemory();
+        trim(BannerHelper.TRIM_LEVEL_OFFSCREEN);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.kelin.banner.view;
+
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+import android.view.View;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * 描述 按页面类型复用页面的缓存池。
+ * <p>声明了页面类型(见{@link com.kelin.banner.TypedBannerEntry})的页面在被销毁后会放入该缓存池，需要创建相同类型的页面时会优先从这里获取，
+ * 所以存活的页面数量只与同时显示的页面数量有关，而与数据源的长度无关。
+ * <p>同一个列表(例如RecyclerView)中的多个BannerView可以通过{@link BannerView#setPagePool(BannerPagePool)}共享同一个缓存池，
+ * 这样一个BannerView回收的页面可以直接被另一个BannerView中相同类型的模型使用。由于页面持有创建它时的Context，
+ * 所以不要在不同的Activity之间共享缓存池。该类只能在主线程中使用。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午2:20
+ * 版本 v 1.0.0
+ */
+
+public final class BannerPagePool {
+
+    /**
+     * 每种类型默认最多缓存的页面数量。
+     */
+    public static final int DEFAULT_MAX_RECYCLED_PAGES = 3;
+
+    /**
+     * 按类型存放的页面。
+     */
+    private final SparseArray<ArrayList<View>> mScrap = new SparseArray<>();
+    /**
+     * 每种类型最多缓存的页面数量。
+     */
+    private final SparseIntArray mMaxPerType = new SparseIntArray();
+
+    /**
+     * 设置某种类型最多缓存的页面数量，如果当前缓存的页面已经超过了该数量则会丢弃多余的页面。
+     *
+     * @param viewType 页面类型。
+     * @param max      最多缓存的页面数量，默认为{@link #DEFAULT_MAX_RECYCLED_PAGES}。
+     */
+    public void setMaxRecycledPages(int viewType, @IntRange(from = 0) int max) {
+        max = Math.max(0, max);
+        mMaxPerType.put(viewType, max);
+        ArrayList<View> scrap = mScrap.get(viewType);
+        if (scrap != null) {
+            while (scrap.size() > max) {
+                scrap.remove(scrap.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * 获取某种类型最多缓存的页面数量。
+     *
+     * @param viewType 页面类型。
+     */
+    public int getMaxRecycledPages(int viewType) {
+        return mMaxPerType.get(viewType, DEFAULT_MAX_RECYCLED_PAGES);
+    }
+
+    /**
+     * 获取某种类型的页面在缓存池中的数量。
+     *
+     * @param viewType 页面类型。
+     */
+    public int getRecycledPageCount(int viewType) {
+        ArrayList<View> scrap = mScrap.get(viewType);
+        return scrap == null ? 0 : scrap.size();
+    }
+
+    /**
+     * 获取一个可以复用的页面。
+     *
+     * @param viewType 页面类型。
+     * @return 如果有可复用的页面则返回该页面，否则返回null。
+     */
+    @Nullable
+    View acquire(int viewType) {
+        ArrayList<View> scrap = mScrap.get(viewType);
+        if (scrap != null) {
+            for (int i = scrap.size() - 1; i >= 0; i--) {
+                View view = scrap.remove(i);
+                if (view.getParent() == null) {
+                    return view;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 回收一个页面。
+     *
+     * @param viewType 页面类型。
+     * @param view     要回收的页面。
+     * @return 如果成功放入缓存池则返回true，如果该类型的缓存已满则返回false。
+     */
+    boolean release(int viewType, View view) {
+        ArrayList<View> scrap = mScrap.get(viewType);
+        if (scrap == null) {
+            scrap = new ArrayList<>();
+            mScrap.put(viewType, scrap);
+        }
+        if (scrap.size() < getMaxRecycledPages(viewType) && !scrap.contains(view)) {
+            scrap.add(view);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 获取缓存池中页面的数量。
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < mScrap.size(); i++) {
+            size += mScrap.valueAt(i).size();
+        }
+        return size;
+    }
+
+    /**
+     * 清空缓存池。
+     *
+     * @return 返回被清除的页面的数量。
+     */
+    public int clear() {
+        int size = size();
+        mScrap.clear();
+        return size;
+    }
+}
@@ -0,0 +1,100 @@
+package com.kelin.banner.view;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.kelin.banner.BannerEntry;
+import com.kelin.banner.BannerPrefetcher;
+import com.kelin.banner.PrefetchableBannerEntry;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 描述 决定当前页附近哪些模型需要预取资源以及预取的顺序。
+ * <p>从当前页开始，先预取即将显示的下一个模型，再预取上一个模型，依次向两边扩展{@link #setDistance(int)}个模型，首尾相接。
+ * 每个模型只会预取一次，直到{@link #reset()}被调用(例如数据源被替换)。该类只能在主线程中使用。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午5:35
+ * 版本 v 1.0.0
+ */
+
+final class BannerResourcePrefetcher {
+
+    private BannerPrefetcher mPrefetcher;
+    private int mDistance;
+    /**
+     * 已经预取过资源的模型，避免每次翻页都重复预取。
+     */
+    private final Set<BannerEntry> mPrefetchedEntries = Collections.newSetFromMap(new IdentityHashMap<BannerEntry, Boolean>());
+
+    BannerResourcePrefetcher(int distance) {
+        mDistance = Math.max(0, distance);
+    }
+
+    /**
+     * 设置资源预取器，设置后之前预取过的模型会被重新预取。
+     *
+     * @param prefetcher 资源预取器，为null时不预取。
+     */
+    void setPrefetcher(@Nullable BannerPrefetcher prefetcher) {
+        mPrefetcher = prefetcher;
+        mPrefetchedEntries.clear();
+    }
+
+    @Nullable
+    BannerPrefetcher getPrefetcher() {
+        return mPrefetcher;
+    }
+
+    /**
+     * 设置预取距离。
+     *
+     * @param distance 预取当前页前后各多少个模型的资源。
+     */
+    void setDistance(int distance) {
+        mDistance = Math.max(0, distance);
+    }
+
+    int getDistance() {
+        return mDistance;
+    }
+
+    /**
+     * 忘记所有已经预取过的模型。
+     */
+    void reset() {
+        mPrefetchedEntries.clear();
+    }
+
+    /**
+     * 预取当前模型及前后{@link #getDistance()}个模型的资源。
+     *
+     * @param context 上下文，只会原样传递给{@link PrefetchableBannerEntry#onPrefetch(Context, BannerPrefetcher)}，本类不会使用它。
+     * @param items   数据源。
+     * @param index   当前模型的索引。
+     */
+    void prefetch(Context context, @NonNull List<? extends BannerEntry> items, int index) {
+        int size = items.size();
+        if (mPrefetcher == null || size == 0) {
+            return;
+        }
+        int distance = Math.min(mDistance, size >>> 1);
+        for (int i = 0; i <= distance; i++) {
+            prefetch(context, items.get((index + i) % size));
+            if (i > 0) {
+                prefetch(context, items.get((index - i + size) % size));
+            }
+        }
+    }
+
+    private void prefetch(Context context, BannerEntry entry) {
+        if (entry instanceof PrefetchableBannerEntry && mPrefetchedEntries.add(entry)) {
+            ((PrefetchableBannerEntry) entry).onPrefetch(context, mPrefetcher);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.kelin.banner.view;
+
+import androidx.annotation.NonNull;
+
+/**
+ * 描述 BannerView的运行统计。
+ * <p>记录BannerView随宿主生命周期暂停、恢复、释放等行为的次数，可以用来在测试中验证BannerView在后台时确实停止了工作。
+ * 通过{@link BannerView#getStats()}获取。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午2:20
+ * 版本 v 1.0.0
+ */
+
+public final class BannerStats {
+    /**
+     * 因为宿主进入ON_STOP而暂停的次数。
+     */
+    private int stopCount;
+    /**
+     * 因为宿主进入ON_START而恢复的次数，绑定时宿主已经处于STARTED状态的不计算在内。
+     */
+    private int startCount;
+    /**
+     * 因为宿主进入ON_DESTROY而释放的次数。
+     */
+    private int destroyCount;
+    /**
+     * 收到低内存通知的次数。
+     */
+    private int lowMemoryCount;
+    /**
+     * 收到内存不足通知并释放内存的次数(包括低内存通知)。
+     */
+    private int trimMemoryCount;
+    /**
+     * 最近一次释放内存的级别。
+     */
+    private int lastTrimLevel;
+    /**
+     * 因为内存不足而被丢弃或解除绑定的页面的数量。
+     */
+    private int trimmedPageCount;
+    /**
+     * 因为内存不足而从图片缓存及复用池中释放的字节数。
+     */
+    private long trimmedBytes;
+    /**
+     * 因为宿主销毁而被释放的页面的数量。
+     */
+    private int releasedPageCount;
+
+    BannerStats() {
+    }
+
+    void onStop() {
+        stopCount++;
+    }
+
+    void onStart() {
+        startCount++;
+    }
+
+    void onDestroy(int releasedPages) {
+        destroyCount++;
+        releasedPageCount += releasedPages;
+    }
+
+    void onLowMemory() {
+        lowMemoryCount++;
+    }
+
+    void onTrimMemory(int level, int trimmedPages, int bytes) {
+        trimMemoryCount++;
+        lastTrimLevel = level;
+        trimmedPageCount += trimmedPages;
+        trimmedBytes += bytes;
+    }
+
+    public int getStopCount() {
+        return stopCount;
+    }
+
+    public int getStartCount() {
+        return startCount;
+    }
+
+    public int getDestroyCount() {
+        return destroyCount;
+    }
+
+    public int getLowMemoryCount() {
+        return lowMemoryCount;
+    }
+
+    public int getTrimMemoryCount() {
+        return trimMemoryCount;
+    }
+
+    /**
+     * 获取最近一次释放内存的级别：1为只丢弃缓存的页面，2为同时释放图片缓存，3为同时解除所有不可见的页面的数据绑定，0为还没有释放过。
+     */
+    public int getLastTrimLevel() {
+        return lastTrimLevel;
+    }
+
+    public int getTrimmedPageCount() {
+        return trimmedPageCount;
+    }
+
+    public long getTrimmedBytes() {
+        return trimmedBytes;
+    }
+
+    public int getReleasedPageCount() {
+        return releasedPageCount;
+    }
+
+    /**
+     * 清空所有的统计数据。
+     */
+    public void reset() {
+        stopCount = 0;
+        startCount = 0;
+        destroyCount = 0;
+        lowMemoryCount = 0;
+        trimMemoryCount = 0;
+        lastTrimLevel = 0;
+        trimmedPageCount = 0;
+        trimmedBytes = 0;
+        releasedPageCount = 0;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "BannerStats{" +
+                "stopCount=" + stopCount +
+                ", startCount=" + startCount +
+                ", destroyCount=" + destroyCount +
+                ", lowMemoryCount=" + lowMemoryCount +
+                ", trimMemoryCount=" + trimMemoryCount +
+                ", lastTrimLevel=" + lastTrimLevel +
+                ", trimmedPageCount=" + trimmedPageCount +
+                ", trimmedBytes=" + trimmedBytes +
+                ", releasedPageCount=" + releasedPageCount +
+                '}';
+    }
+}
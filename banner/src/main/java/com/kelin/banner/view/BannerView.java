@@ -3,26 +3,35 @@ package com.kelin.banner.view;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.RectF;
 
+import androidx.annotation.FloatRange;
+import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.Size;
+import androidx.lifecycle.LifecycleOwner;
+import androidx.viewpager.widget.PagerAdapter;
 import androidx.viewpager.widget.ViewPager;
 
 import android.util.AttributeSet;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewParent;
 import android.view.animation.AnimationUtils;
 import android.view.animation.Interpolator;
 import android.widget.TextView;
 
 import com.kelin.banner.BannerEntry;
+import com.kelin.banner.BannerPrefetcher;
+import com.kelin.banner.PrefetchableBannerEntry;
 import com.kelin.banner.R;
 import com.kelin.banner.page.Pageable;
+import com.kelin.banner.transformer.BasePageTransformer;
+import com.kelin.banner.transformer.LayeredPageTransformer;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.List;
 
 /**
@@ -61,6 +70,26 @@ public class BannerView extends ViewPager {
      * 用来记录是否要禁止用户滑动。
      */
     private boolean mIsUserInputEnable = true;
+    /**
+     * 运行统计。
+     */
+    private final BannerStats mStats = new BannerStats();
+    /**
+     * 生命周期绑定器，只有调用了{@link #bindLifecycle(LifecycleOwner)}方法后才会创建。
+     */
+    private BannerLifecycleBinder mLifecycleBinder;
+    /**
+     * 内存不足时释放内存，添加到窗口时才会创建。
+     */
+    private BannerMemoryTrimmer mMemoryTrimmer;
+    /**
+     * 用来计算页面变换后的区域，避免在绘制时创建对象。
+     */
+    private final RectF mChildBounds = new RectF();
+    /**
+     * 是否还没有进行过布局，与ViewPager中的mFirstLayout保持一致。
+     */
+    private boolean mIsFirstLayout = true;
 
     public BannerView(Context context) {
         this(context, null);
@@ -89,10 +118,23 @@ public class BannerView extends ViewPager {
                     typedArray.getResourceId(R.styleable.BannerView_titleView, NO_ID),
                     typedArray.getResourceId(R.styleable.BannerView_subTitleView, NO_ID),
                     typedArray.getBoolean(R.styleable.BannerView_touchPauseEnable, true));
+            mBH.setVisibleThreshold(typedArray.getFloat(R.styleable.BannerView_visibleThreshold, BannerVisibilityTracker.DEFAULT_THRESHOLD));
+            mBH.setAsyncInflateEnable(typedArray.getBoolean(R.styleable.BannerView_asyncInflate, false));
+            mBH.setPrefetchLeadTime(typedArray.getInt(R.styleable.BannerView_prefetchLeadTime, BannerHelper.DEFAULT_PREFETCH_LEAD_TIME));
+            mBH.setPageCacheSize(typedArray.getInt(R.styleable.BannerView_pageCacheSize, BannerHelper.DEFAULT_PAGE_CACHE_SIZE));
+            mBH.setPageLayerEnable(typedArray.getBoolean(R.styleable.BannerView_pageLayerEnable, true));
             typedArray.recycle();
         }
     }
 
+    /**
+     * 预先初始化BannerView所需要的ViewPager内部成员的访问器。该方法是可选的，可以在Application的onCreate中调用，
+     * 这样第一个BannerView被创建时就不需要再进行初始化了。
+     */
+    public static void warmUp() {
+        ViewPagerAccessors.warmUp();
+    }
+
     /**
      * 由于我需要监听BannerView的触摸事件，通过该事件来处理什么时候需要暂停和启动轮播图，所以我禁用了这个方法。其实你也并不需要
      * 对Banner的触摸事件进行监听。
@@ -127,20 +169,14 @@ public class BannerView extends ViewPager {
     public void removeView(View view) {
         super.removeView(view);
         //下面的代码是解决View复用导致的view层级关系错乱的问题。重新对view的布局参数进行初始化。
+        //新的布局参数中的position及widthFactor均为初始值，ViewPager会在下一次populate时重新为其赋值。
         ViewGroup.LayoutParams lp = view.getLayoutParams();
-        if (lp != null) {
-            try {
-                Field positionField = BannerHelper.getField(ViewPager.LayoutParams.class, "position");
-                if (positionField != null) {
-                    positionField.setInt(lp, 0);
-                }
-                Field widthFactorField = BannerHelper.getField(ViewPager.LayoutParams.class, "widthFactor");
-                if (widthFactorField != null) {
-                    widthFactorField.setFloat(lp, 0.f);
-                }
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
+        if (lp instanceof LayoutParams && !((LayoutParams) lp).isDecor) {
+            LayoutParams freshLp = new LayoutParams();
+            freshLp.width = lp.width;
+            freshLp.height = lp.height;
+            freshLp.gravity = ((LayoutParams) lp).gravity;
+            view.setLayoutParams(freshLp);
         }
     }
 
@@ -241,6 +277,114 @@ public class BannerView extends ViewPager {
         mBH.setMultiple(multiple);
     }
 
+    /**
+     * 设置可见阈值。当BannerView被滚动出屏幕(例如在RecyclerView或ScrollView中)，在屏幕上可见的面积比例低于该值时
+     * 会暂停轮播，高于或等于该值时恢复轮播。也可以在XML中通过app:visibleThreshold自定义属性配置。
+     *
+     * @param threshold 可见面积的比例，取值范围0~1，默认为0.5。
+     */
+    public void setVisibleThreshold(@FloatRange(from = 0, to = 1) float threshold) {
+        mBH.setVisibleThreshold(threshold);
+    }
+
+    /**
+     * 获取可见阈值。
+     *
+     * @return 返回当前的可见阈值。
+     */
+    public float getVisibleThreshold() {
+        return mBH.getVisibleThreshold();
+    }
+
+    /**
+     * 获取BannerView当前在屏幕上可见的面积比例。
+     *
+     * @return 返回0~1之间的值。
+     */
+    public float getVisibleFraction() {
+        return mBH.getVisibleFraction();
+    }
+
+    /**
+     * 设置是否在后台线程中提前创建即将显示的页面。开启后{@link BannerEntry#onCreateView(ViewGroup)}会在后台线程中执行，
+     * 所以只应当在其中创建View，而不要在其中访问其他的View。页面还没有创建好时依然会在主线程中同步创建。
+     * 也可以在XML中通过app:asyncInflate自定义属性配置，默认为false。
+     *
+     * @param enable true表示开启，false表示关闭。
+     */
+    public void setAsyncInflateEnable(boolean enable) {
+        mBH.setAsyncInflateEnable(enable);
+    }
+
+    /**
+     * 是否开启了后台预创建页面。
+     */
+    public boolean isAsyncInflateEnable() {
+        return mBH.isAsyncInflateEnable();
+    }
+
+    /**
+     * 设置预取的提前量。在距离下一次自动翻页还有这么多时间时，会在主线程空闲时预先创建下一次翻页需要用到的页面并调用
+     * {@link BannerEntry#onBindData(View)}方法，这样翻页时就只剩下变换及绘制的工作了。
+     * 也可以在XML中通过app:prefetchLeadTime自定义属性配置。
+     *
+     * @param leadTime 提前量，单位：毫秒，默认为500毫秒，小于等于0表示不预取。
+     */
+    public void setPrefetchLeadTime(int leadTime) {
+        mBH.setPrefetchLeadTime(leadTime);
+    }
+
+    /**
+     * 获取预取的提前量，单位：毫秒。
+     */
+    public int getPrefetchLeadTime() {
+        return mBH.getPrefetchLeadTime();
+    }
+
+    /**
+     * 设置最多缓存的页面数量。没有声明页面类型的页面离开ViewPager后会按索引缓存起来，超出数量时最近最少使用的页面会被丢弃，
+     * 这样无论有多少个模型占用的内存都是固定的。也可以在XML中通过app:pageCacheSize自定义属性配置。
+     *
+     * @param size 页面数量，默认为3，0表示不缓存。
+     * @see #setOnPageEvictedListener(OnPageEvictedListener)
+     */
+    public void setPageCacheSize(int size) {
+        mBH.setPageCacheSize(size);
+    }
+
+    /**
+     * 获取最多缓存的页面数量。
+     */
+    public int getPageCacheSize() {
+        return mBH.getPageCacheSize();
+    }
+
+    /**
+     * 设置资源预取器。设置后BannerView会在页面切换时对当前页附近实现了{@link PrefetchableBannerEntry}的模型(例如{@link com.kelin.banner.SimpleBannerEntry})
+     * 进行资源预取，这样页面显示时图片就已经在缓存中了。
+     *
+     * @param prefetcher 资源预取器，为null时不预取。
+     */
+    public void setPrefetcher(@Nullable BannerPrefetcher prefetcher) {
+        mBH.setPrefetcher(prefetcher);
+    }
+
+    /**
+     * 设置资源预取距离。
+     *
+     * @param distance 预取当前页前后各多少个模型的资源，默认为2。
+     */
+    public void setPrefetchDistance(@IntRange(from = 0) int distance) {
+        mBH.setPrefetchDistance(distance);
+    }
+
+    /**
+     * 获取资源预取距离。
+     */
+    public int getPrefetchDistance() {
+        return mBH.getPrefetchDistance();
+    }
+
     /**
      * 设置点击事件监听。
      *
@@ -259,6 +403,15 @@ public class BannerView extends ViewPager {
         mBH.setOnPageLongClickListener(listener);
     }
 
+    /**
+     * 设置缓存的页面被丢弃的监听。
+     *
+     * @param listener 缓存的页面被丢弃时的监听对象。
+     */
+    public void setOnPageEvictedListener(OnPageEvictedListener listener) {
+        mBH.setOnPageEvictedListener(listener);
+    }
+
     /**
      * 设置页面改变监听。
      *
@@ -378,6 +531,58 @@ public class BannerView extends ViewPager {
         return mBH.isStarted();
     }
 
+    /**
+     * 将BannerView与宿主的生命周期绑定。绑定后当宿主进入ON_STOP时会暂停所有的翻页工作，ON_START时恢复；
+     * 当宿主进入ON_DESTROY时会释放所有的页面及回调。
+     *
+     * @param owner 宿主，一般为Activity或Fragment(Fragment建议使用getViewLifecycleOwner())。
+     */
+    public void bindLifecycle(@NonNull LifecycleOwner owner) {
+        if (mLifecycleBinder == null) {
+            mLifecycleBinder = new BannerLifecycleBinder(mBH, mStats);
+        }
+        mLifecycleBinder.bind(owner);
+    }
+
+    /**
+     * 解除与宿主生命周期的绑定。
+     */
+    public void unbindLifecycle() {
+        if (mLifecycleBinder != null) {
+            mLifecycleBinder.unbind();
+        }
+    }
+
+    /**
+     * 获取运行统计。
+     *
+     * @return 返回当前BannerView的{@link BannerStats}对象。
+     */
+    @NonNull
+    public BannerStats getStats() {
+        return mStats;
+    }
+
+    /**
+     * 设置页面缓存池。同一个列表中的多个BannerView可以共享同一个缓存池，这样一个BannerView回收的页面可以被另一个BannerView中
+     * 声明了相同页面类型(见{@link com.kelin.banner.TypedBannerEntry})的模型直接使用，而不需要重新创建。
+     *
+     * @param pool 页面缓存池。
+     */
+    public void setPagePool(@NonNull BannerPagePool pool) {
+        mBH.setPagePool(pool);
+    }
+
+    /**
+     * 获取页面缓存池。
+     *
+     * @return 如果没有调用过{@link #setPagePool(BannerPagePool)}方法则返回当前BannerView私有的缓存池。
+     */
+    @NonNull
+    public BannerPagePool getPagePool() {
+        return mBH.getPagePool();
+    }
+
     /**
      * 选择中间页，如果你想移动到中间则需要调用这个方法。
      * <p>
@@ -441,23 +646,127 @@ public class BannerView extends ViewPager {
         mBH.setShowLeftAndRightPage(showWidthDp, reverseDrawingOrder, pageTransformer);
     }
 
+    /**
+     * 设置翻页动画。与ViewPager在翻页期间为所有的页面使用图层不同，BannerView只会为可见的页面使用图层，并且停止滚动后立即移除。
+     * 如果翻页动画实现了{@link LayeredPageTransformer}则使用它声明的图层类型，否则使用pageLayerType。
+     *
+     * @param reverseDrawingOrder 是否翻转绘制顺序。
+     * @param transformer         翻页动画。
+     * @param pageLayerType       翻页期间页面所使用的图层类型。
+     * @see #setPageLayerEnable(boolean)
+     */
     @Override
     public void setPageTransformer(boolean reverseDrawingOrder, PageTransformer transformer, int pageLayerType) {
-        super.setPageTransformer(reverseDrawingOrder, transformer, pageLayerType);
-        mBH.updatePageTransformer(transformer);
+        //图层由BannerHelper管理，所以ViewPager本身不再使用图层。
+        super.setPageTransformer(reverseDrawingOrder, transformer, LAYER_TYPE_NONE);
+        mBH.updatePageTransformer(transformer, pageLayerType);
+    }
+
+    /**
+     * 设置离屏页面的数量。手动设置后BannerView不再根据可见的宽度自动计算，可以通过{@link #setOffscreenPageLimitAdaptive(boolean)}恢复。
+     *
+     * @param limit 当前页两边各保留的页面数量。
+     */
+    @Override
+    public void setOffscreenPageLimit(int limit) {
+        mBH.setOffscreenPageLimitAdaptive(false);
+        super.setOffscreenPageLimit(limit);
+    }
+
+    /**
+     * 设置是否根据可见的宽度自动计算离屏页面的数量，默认为true。自动计算时会根据页面的宽度、页面的间距、两边可见的宽度以及翻页动画
+     * 能够平移的距离保留最少的页面，而不是固定的数量。
+     *
+     * @param adaptive true表示自动计算，false表示使用{@link #setOffscreenPageLimit(int)}设置的数量。
+     * @see BasePageTransformer#getMaxTranslationPages()
+     */
+    public void setOffscreenPageLimitAdaptive(boolean adaptive) {
+        mBH.setOffscreenPageLimitAdaptive(adaptive);
+    }
+
+    /**
+     * 是否根据可见的宽度自动计算离屏页面的数量。
+     */
+    public boolean isOffscreenPageLimitAdaptive() {
+        return mBH.isOffscreenPageLimitAdaptive();
+    }
+
+    @Override
+    public void setPageMargin(int marginPixels) {
+        super.setPageMargin(marginPixels);
+        //构造ViewPager时mBH还没有创建。
+        if (mBH != null) {
+            mBH.requestOffscreenPageLimitUpdate();
+        }
+    }
+
+    void applyOffscreenPageLimit(int limit) {
+        super.setOffscreenPageLimit(limit);
+    }
+
+    /**
+     * 设置是否允许在翻页期间为可见的页面使用图层。图层可以让页面在翻页期间只需要合成而不需要重新绘制，但每个页面都会额外占用一个页面大小的缓冲，
+     * 内存紧张或页面很大时可以关闭。关闭后{@link BasePageTransformer#ALPHA_STRATEGY_LAYER}也不会再为半透明的页面持有图层。
+     * 也可以在XML中通过app:pageLayerEnable自定义属性配置，默认为true。
+     *
+     * @param enable true表示允许，false表示不允许。
+     */
+    public void setPageLayerEnable(boolean enable) {
+        mBH.setPageLayerEnable(enable);
+    }
+
+    /**
+     * 是否允许在翻页期间为可见的页面使用图层。
+     */
+    public boolean isPageLayerEnable() {
+        return mBH.isPageLayerEnable();
     }
 
+    /**
+     * 计算手指抬起后的目标页面，与ViewPager在速度为0时的计算方式一致：向后滑动超过40%或向前滑动超过60%即认为需要翻页。
+     *
+     * @param currentPage 当前正在被触摸的页面。
+     * @param pageOffset  页面的偏移值。
+     * @return 返回目标页面。
+     */
     int determineTargetPage(int currentPage, float pageOffset) {
-        try {
-            Field lastMotionX = BannerHelper.getField(ViewPager.class, "mLastMotionX");
-            Field initialMotionX = BannerHelper.getField(ViewPager.class, "mInitialMotionX");
-            int deltaX = (int) (lastMotionX.getFloat(this) - initialMotionX.getFloat(this));
-            Method method = ViewPager.class.getDeclaredMethod("determineTargetPage", int.class, float.class, int.class, int.class);
-            method.setAccessible(true);
-            return (int) method.invoke(this, currentPage, pageOffset, 0, deltaX);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        final float truncator = currentPage >= getCurrentItem() ? 0.4f : 0.6f;
+        int targetPage = currentPage + (int) (pageOffset + truncator);
+        PagerAdapter adapter = getAdapter();
+        int lastPage = adapter == null ? 0 : adapter.getCount() - 1;
+        return Math.max(0, Math.min(targetPage, lastPage));
+    }
+
+    @Override
+    protected boolean drawChild(Canvas canvas, View child, long drawingTime) {
+        //显示左右两边的页面时没有裁剪，完全看不到的页面也会被绘制，所以在这里剔除。
+        if (mBH.isSidePagesVisible() && isPageHidden(child)) {
+            return false;
         }
+        return super.drawChild(canvas, child, drawingTime);
+    }
+
+    /**
+     * 判断页面在经过翻页动画的变换后是否完全不可见，即完全透明或者变换后的区域与父布局的区域没有交集。
+     *
+     * @param child 页面。
+     */
+    private boolean isPageHidden(View child) {
+        ViewParent parent = getParent();
+        if (!(parent instanceof View) || ((LayoutParams) child.getLayoutParams()).isDecor) {
+            return false;
+        }
+        if (child.getAlpha() <= 0) {
+            return true;
+        }
+        mChildBounds.set(0, 0, child.getWidth(), child.getHeight());
+        child.getMatrix().mapRect(mChildBounds);
+        mChildBounds.offset(child.getLeft(), child.getTop());
+        //父布局的区域在当前的坐标系(已经滚动了scrollX)中的位置。
+        float left = getScrollX() - getLeft();
+        float top = getScrollY() - getTop();
+        View box = (View) parent;
+        return !mChildBounds.intersects(left, top, left + box.getWidth(), top + box.getHeight());
     }
 
     @Override
@@ -466,14 +775,64 @@ public class BannerView extends ViewPager {
         mBH.onWindowVisibilityChanged(visibility);
     }
 
+    @Override
+    protected void onAttachedToWindow() {
+        mIsFirstLayout = true;
+        super.onAttachedToWindow();
+        mBH.onAttachedToWindow();
+        if (mMemoryTrimmer == null) {
+            mMemoryTrimmer = new BannerMemoryTrimmer(getContext(), mBH, mStats);
+        }
+        mMemoryTrimmer.register();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        if (mMemoryTrimmer != null) {
+            mMemoryTrimmer.unregister();
+        }
+        mBH.onDetachedFromWindow();
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    public void setAdapter(@Nullable PagerAdapter adapter) {
+        super.setAdapter(adapter);
+        if (adapter != null) {
+            mIsFirstLayout = true;
+        }
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        if (w != oldw) {
+            mBH.requestOffscreenPageLimitUpdate();
+        }
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        super.onLayout(changed, l, t, r, b);
+        mIsFirstLayout = false;
+    }
+
     boolean isFirstLayout() {
-        try {
-            Field mFirstLayout = BannerHelper.getField(ViewPager.class, "mFirstLayout");
-            return mFirstLayout.getBoolean(this);
-        } catch (Exception e) {
-            e.printStackTrace();
+        return mIsFirstLayout;
+    }
+
+    /**
+     * 立即在当前的尺寸下重新进行一次布局。如果是第一次布局ViewPager会在布局时将页面滚动到当前页，这样之后的翻页才会有动画。
+     * 只对BannerView自身进行测量及布局，不会引起父布局(例如RecyclerView)的重新布局。
+     */
+    void relayoutPages() {
+        final int width = getWidth();
+        final int height = getHeight();
+        if (width > 0 && height > 0) {
+            forceLayout();
+            measure(MeasureSpec.makeMeasureSpec(width, MeasureSpec.EXACTLY), MeasureSpec.makeMeasureSpec(height, MeasureSpec.EXACTLY));
+            layout(getLeft(), getTop(), getRight(), getBottom());
         }
-        return true;
     }
 
     /**
@@ -503,6 +862,20 @@ public class BannerView extends ViewPager {
         void onPageLongClick(BannerEntry entry, int index);
     }
 
+    /**
+     * 缓存的页面被丢弃的监听。
+     */
+    public interface OnPageEvictedListener {
+        /**
+         * 缓存的页面因为超出缓存容量、数据源改变或内存不足被丢弃时执行，此时页面已经调用过{@link BannerEntry#unbindData(View)}方法了。
+         *
+         * @param entry 页面最后一次绑定的 {@link BannerEntry} 对象。
+         * @param index 页面的索引。
+         * @param page  被丢弃的页面。
+         */
+        void onPageEvicted(BannerEntry entry, int index, View page);
+    }
+
     public interface DoOnPageSelectedListener {
 
         /**
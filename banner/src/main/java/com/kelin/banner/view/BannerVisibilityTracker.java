@@ -0,0 +1,142 @@
+package com.kelin.banner.view;
+
+import android.graphics.Rect;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+
+/**
+ * 描述 BannerView的可见区域追踪器。
+ * <p>通过监听窗口中的滚动及布局的变化计算出BannerView在屏幕上可见的面积比例，当比例跨越设置的阈值时进行回调。
+ * 这样当BannerView被RecyclerView或ScrollView滚出屏幕时就可以暂停轮播，而不是继续为看不到的像素进行布局和绑定。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  上午11:05
+ * 版本 v 1.0.0
+ */
+
+final class BannerVisibilityTracker implements ViewTreeObserver.OnScrollChangedListener, ViewTreeObserver.OnGlobalLayoutListener {
+
+    /**
+     * 默认的可见阈值。
+     */
+    static final float DEFAULT_THRESHOLD = 0.5f;
+
+    private final View mTarget;
+    private final OnVisibleChangedListener mListener;
+    /**
+     * 用来计算可见区域，复用该对象避免每次滚动都创建对象。
+     */
+    private final Rect mVisibleRect = new Rect();
+    /**
+     * 当前正在监听的ViewTreeObserver。
+     */
+    private ViewTreeObserver mObserver;
+    /**
+     * 可见阈值，可见比例低于这个值时认为不可见。
+     */
+    private float mThreshold = DEFAULT_THRESHOLD;
+    /**
+     * 最后一次计算出的可见比例。
+     */
+    private float mVisibleFraction;
+    /**
+     * 最后一次回调的可见状态。
+     */
+    private boolean mIsVisible = true;
+
+    BannerVisibilityTracker(@NonNull View target, @NonNull OnVisibleChangedListener listener) {
+        mTarget = target;
+        mListener = listener;
+    }
+
+    /**
+     * 设置可见阈值。
+     *
+     * @param threshold 可见面积的比例，当低于这个值时暂停，高于或等于这个值时恢复。
+     */
+    void setThreshold(@FloatRange(from = 0, to = 1) float threshold) {
+        mThreshold = Math.max(0, Math.min(1, threshold));
+        check();
+    }
+
+    float getThreshold() {
+        return mThreshold;
+    }
+
+    float getVisibleFraction() {
+        return mVisibleFraction;
+    }
+
+    boolean isVisible() {
+        return mIsVisible;
+    }
+
+    /**
+     * 开始追踪，应当在View被添加到窗口时调用。
+     */
+    void attach() {
+        detach();
+        mObserver = mTarget.getViewTreeObserver();
+        mObserver.addOnScrollChangedListener(this);
+        mObserver.addOnGlobalLayoutListener(this);
+    }
+
+    /**
+     * 停止追踪，应当在View从窗口中移除时调用。
+     */
+    @SuppressWarnings("deprecation")
+    void detach() {
+        if (mObserver != null) {
+            if (mObserver.isAlive()) {
+                mObserver.removeOnScrollChangedListener(this);
+                mObserver.removeGlobalOnLayoutListener(this);
+            }
+            mObserver = null;
+        }
+    }
+
+    @Override
+    public void onScrollChanged() {
+        check();
+    }
+
+    @Override
+    public void onGlobalLayout() {
+        check();
+    }
+
+    /**
+     * 重新计算可见比例，如果跨越了阈值则进行回调。
+     */
+    void check() {
+        mVisibleFraction = computeVisibleFraction();
+        boolean visible = mThreshold == 0 ? mVisibleFraction > 0 : mVisibleFraction >= mThreshold;
+        if (visible != mIsVisible) {
+            mIsVisible = visible;
+            mListener.onVisibleChanged(visible);
+        }
+    }
+
+    private float computeVisibleFraction() {
+        int width = mTarget.getWidth();
+        int height = mTarget.getHeight();
+        if (width <= 0 || height <= 0 || !mTarget.isShown() || !mTarget.getGlobalVisibleRect(mVisibleRect)) {
+            return 0;
+        }
+        return (float) mVisibleRect.width() * mVisibleRect.height() / ((float) width * height);
+    }
+
+    /**
+     * 可见状态改变的监听。
+     */
+    interface OnVisibleChangedListener {
+        /**
+         * 当可见比例跨越阈值时调用。
+         *
+         * @param visible 是否可见。
+         */
+        void onVisibleChanged(boolean visible);
+    }
+}
@@ -0,0 +1,218 @@
+package com.kelin.banner.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+
+/**
+ * 描述 所有BannerView共享的自动翻页时钟。
+ * <p>每个{@link BannerHelper}不再各自通过Handler.postDelayed投递翻页任务，而是将下一次翻页的截止时间(基于
+ * {@link SystemClock#uptimeMillis()})注册到这里。整个进程只会为最早的截止时间唤醒一次主线程，唤醒后再通过
+ * {@link Choreographer}在下一帧开始时统一执行所有已经到期的翻页任务，从而保证翻页动画的第一帧不会被丢掉。
+ * 翻页前的预取同样以任务的形式注册到这里，与翻页共用同一个唤醒。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  上午10:12
+ * 版本 v 1.0.0
+ */
+
+final class PagingScheduler implements Runnable, Choreographer.FrameCallback {
+
+    /**
+     * 一帧的时长，单位：纳秒。截止时间在下一帧开始之前的任务会被合并到当前帧中执行，所以任务最多提前一帧执行。
+     */
+    private static final long FRAME_INTERVAL_NANOS = 16_666_667;
+    /**
+     * 用来表示没有任何唤醒计划。
+     */
+    private static final long NO_WAKEUP = -1;
+
+    private static PagingScheduler sInstance;
+    /**
+     * 用来在最早的截止时间唤醒主线程。
+     */
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    /**
+     * 所有已注册的翻页任务。
+     */
+    private final ArrayList<Ticket> mTickets = new ArrayList<>();
+    /**
+     * 每一帧中到期的任务，复用该集合以避免每帧创建对象。
+     */
+    private final ArrayList<Ticket> mDueTickets = new ArrayList<>();
+    /**
+     * 当前Handler的唤醒时间。
+     */
+    private long mWakeupTime = NO_WAKEUP;
+    /**
+     * 是否已经向Choreographer注册了帧回调。
+     */
+    private boolean mFrameScheduled;
+    /**
+     * 是否正在执行到期的任务。
+     */
+    private boolean mDispatching;
+
+    private PagingScheduler() {
+    }
+
+    /**
+     * 获取进程内唯一的翻页时钟，只能在主线程中调用。
+     */
+    static PagingScheduler getInstance() {
+        if (sInstance == null) {
+            sInstance = new PagingScheduler();
+        }
+        return sInstance;
+    }
+
+    /**
+     * 注册或更新一个翻页任务。如果该任务已经注册过则只会更新它的截止时间。
+     *
+     * @param task     翻页任务。
+     * @param deadline 截止时间，基于{@link SystemClock#uptimeMillis()}。
+     */
+    void schedule(@NonNull PagingTask task, long deadline) {
+        Ticket ticket = findTicket(task);
+        if (ticket == null) {
+            mTickets.add(new Ticket(task, deadline));
+        } else {
+            ticket.deadline = deadline;
+            //如果正在执行到期的任务，被重新计划的任务在本帧中不再执行。
+            ticket.generation++;
+        }
+        updateWakeup();
+    }
+
+    /**
+     * 取消一个翻页任务。
+     *
+     * @param task 要取消的翻页任务。
+     */
+    void cancel(@NonNull PagingTask task) {
+        Ticket ticket = findTicket(task);
+        if (ticket != null) {
+            mTickets.remove(ticket);
+            //如果正在执行到期的任务，被取消的任务在本帧中不再执行。
+            ticket.generation++;
+            updateWakeup();
+        }
+    }
+
+    /**
+     * 判断一个翻页任务是否已经注册。
+     */
+    boolean isScheduled(@NonNull PagingTask task) {
+        return findTicket(task) != null;
+    }
+
+    private Ticket findTicket(PagingTask task) {
+        for (int i = 0, size = mTickets.size(); i < size; i++) {
+            Ticket ticket = mTickets.get(i);
+            if (ticket.task == task) {
+                return ticket;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据最早的截止时间重新计划唤醒时间。
+     */
+    private void updateWakeup() {
+        if (mFrameScheduled || mDispatching) {
+            //帧回调执行完毕后会再次计划唤醒时间。
+            return;
+        }
+        long earliest = NO_WAKEUP;
+        for (int i = 0, size = mTickets.size(); i < size; i++) {
+            long deadline = mTickets.get(i).deadline;
+            if (earliest == NO_WAKEUP || deadline < earliest) {
+                earliest = deadline;
+            }
+        }
+        if (earliest != mWakeupTime) {
+            mHandler.removeCallbacks(this);
+            mWakeupTime = earliest;
+            if (earliest != NO_WAKEUP) {
+                mHandler.postAtTime(this, earliest);
+            }
+        }
+    }
+
+    /**
+     * 到达最早的截止时间，等待下一帧开始。
+     */
+    @Override
+    public void run() {
+        mWakeupTime = NO_WAKEUP;
+        if (!mTickets.isEmpty()) {
+            mFrameScheduled = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mFrameScheduled = false;
+        long now = SystemClock.uptimeMillis();
+        //把下一帧开始的时间换算为uptimeMillis，Choreographer的帧时间与System.nanoTime()使用同一个时钟。当前帧延迟了很久时
+        //下一帧开始的时间可能已经过去了，但是已经到期的任务总是要执行的。
+        long limit = Math.max(now + 1, now + (frameTimeNanos + FRAME_INTERVAL_NANOS - System.nanoTime()) / 1_000_000);
+        for (int i = 0, size = mTickets.size(); i < size; i++) {
+            Ticket ticket = mTickets.get(i);
+            if (ticket.deadline < limit) {
+                ticket.dueGeneration = ticket.generation;
+                mDueTickets.add(ticket);
+            }
+        }
+        //任务在执行时通常会再次调用schedule方法注册下一次的截止时间，也可能会取消或重新计划其他到期的任务。
+        mDispatching = true;
+        try {
+            for (int i = 0, size = mDueTickets.size(); i < size; i++) {
+                Ticket ticket = mDueTickets.get(i);
+                if (ticket.generation == ticket.dueGeneration) {
+                    mTickets.remove(ticket);
+                    ticket.generation++;
+                    ticket.task.onPagingTick();
+                }
+            }
+        } finally {
+            mDueTickets.clear();
+            mDispatching = false;
+        }
+        updateWakeup();
+    }
+
+    /**
+     * 翻页任务。
+     */
+    interface PagingTask {
+        /**
+         * 当截止时间到达并且新的一帧开始时调用。
+         */
+        void onPagingTick();
+    }
+
+    private static class Ticket {
+        private final PagingTask task;
+        private long deadline;
+        /**
+         * 每次被重新计划、取消或执行时都会加1。
+         */
+        private int generation;
+        /**
+         * 到期时的{@link #generation}，执行前如果两者不同说明任务在本帧中已经被重新计划或取消了。
+         */
+        private int dueGeneration;
+
+        private Ticket(PagingTask task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
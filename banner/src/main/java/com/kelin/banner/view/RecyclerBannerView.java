@@ -0,0 +1,836 @@
+package com.kelin.banner.view;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.os.SystemClock;
+import android.util.AttributeSet;
+import android.util.SparseIntArray;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Interpolator;
+import android.widget.TextView;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.Size;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.LinearSmoothScroller;
+import androidx.recyclerview.widget.PagerSnapHelper;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.kelin.banner.BannerEntry;
+import com.kelin.banner.R;
+import com.kelin.banner.TypedBannerEntry;
+import com.kelin.banner.image.BannerImageLoader;
+import com.kelin.banner.page.Pageable;
+
+import java.util.List;
+
+import static com.kelin.banner.view.BannerView.MULTI_MODE_INFINITE_LOOP;
+
+/**
+ * 描述 基于RecyclerView实现的轮播图控件。
+ * <p>与{@link BannerView}使用相同的数据模型({@link BannerEntry})、指示器({@link Pageable})及监听接口，并且支持BannerView
+ * 的所有自定义属性，只需要在XML中将com.kelin.banner.view.BannerView替换为com.kelin.banner.view.RecyclerBannerView即可切换引擎。
+ * <p>与BannerView不同的是页面的创建及复用交由RecyclerView管理，从而可以使用RecyclerView的预取、按ViewType复用以及局部刷新等机制。
+ * 创建人 kelin
+ * 创建时间 2026/10/19  上午9:30
+ * 版本 v 1.0.0
+ */
+
+public class RecyclerBannerView extends RecyclerView implements PagingScheduler.PagingTask, BannerVisibilityTracker.OnVisibleChangedListener {
+
+    /**
+     * 无限轮播模式下数据源被重复的最大轮数，页面总数为数据源的长度乘以轮数。
+     */
+    private static final int INFINITE_LOOP_ROUNDS = 10000;
+    /**
+     * 页面的布局管理器。
+     */
+    private final LinearLayoutManager mLayoutManager;
+    /**
+     * 用来保证每次滑动后都停在一个完整的页面上。
+     */
+    private final PagerSnapHelper mSnapHelper = new PagerSnapHelper();
+    /**
+     * 页面适配器。
+     */
+    private final EntryAdapter mAdapter = new EntryAdapter();
+    /**
+     * 自动翻页的共享时钟。
+     */
+    private final PagingScheduler mScheduler = PagingScheduler.getInstance();
+    /**
+     * 可见区域追踪器。
+     */
+    private final BannerVisibilityTracker mVisibilityTracker;
+    /**
+     * 翻页动画差值器。
+     */
+    private final Interpolator mInterpolator;
+    /**
+     * 单页模式及多页模式的标识。
+     */
+    private int mPageModeFlags;
+    /**
+     * 翻页的间隔时长。
+     */
+    private int mPagingIntervalTime = 5000;
+    /**
+     * 翻页动画减速倍数。
+     */
+    private int mMultiple = 1;
+    /**
+     * 触摸暂停轮播是否可用。
+     */
+    private boolean mTouchPauseEnable;
+    /**
+     * 用来记录是否要禁止用户滑动。
+     */
+    private boolean mIsUserInputEnable = true;
+    /**
+     * 用来记录指示器、标题及子标题控件的ID。
+     */
+    private int mIndicatorId;
+    private int mTitleViewId;
+    private int mSubTitleViewId;
+    /**
+     * 轮播图的页码指示器控件。
+     */
+    private Pageable mIndicatorView;
+    /**
+     * 用来记录指示器是否可用。
+     */
+    private boolean mIndicatorEnable;
+    /**
+     * 用来显示标题的控件。
+     */
+    private TextView mTitleView;
+    /**
+     * 用来显示副标题的控件。
+     */
+    private TextView mSubTitleView;
+    /**
+     * 记录是否已经开始轮播。
+     */
+    private boolean mIsStarted;
+    /**
+     * 记录是否已经暂停。
+     */
+    private boolean mIsPaused;
+    /**
+     * 是否从未被启动过。
+     */
+    private boolean mIsNeverStarted = true;
+    /**
+     * 当前的挂起原因。
+     */
+    private int mSuspendFlags;
+    /**
+     * 下一次翻页的截止时间。
+     */
+    private long mNextPagingTime;
+    /**
+     * 当前被选中的页面的位置。
+     */
+    private int mCurrentPosition = NO_POSITION;
+    /**
+     * 用来记录上一次的窗口Visibility状态。
+     */
+    private int lastVisibilityStatus = -1;
+    /**
+     * 各种监听。
+     */
+    private BannerView.OnPageClickListener mOnPageClickListener;
+    private BannerView.OnPageLongClickListener mOnPageLongClickListener;
+    private BannerView.OnPageChangeListener mOnPageChangeListener;
+    private BannerView.DoOnPageSelectedListener mDoOnPageSelectedListener;
+    private BannerView.DoOnPageScrolledListener mDoOnPageScrolledListener;
+    private BannerView.DoOnPageScrollStateChangedListener mDoOnPageScrollStateChangedListener;
+
+    public RecyclerBannerView(@NonNull Context context) {
+        this(context, null);
+    }
+
+    public RecyclerBannerView(@NonNull Context context, @Nullable AttributeSet attrs) {
+        super(context, attrs);
+        Interpolator interpolator = null;
+        float visibleThreshold = BannerVisibilityTracker.DEFAULT_THRESHOLD;
+        if (attrs == null) {
+            mPageModeFlags = MULTI_MODE_INFINITE_LOOP;
+            mTouchPauseEnable = true;
+            mIndicatorId = mTitleViewId = mSubTitleViewId = View.NO_ID;
+        } else {
+            TypedArray typedArray = context.obtainStyledAttributes(attrs, R.styleable.BannerView);
+            int interpolatorId = typedArray.getResourceId(R.styleable.BannerView_pagingInterpolator, View.NO_ID);
+            if (interpolatorId != View.NO_ID) {
+                interpolator = AnimationUtils.loadInterpolator(context, interpolatorId);
+            }
+            mPageModeFlags = typedArray.getInt(R.styleable.BannerView_singlePageMode, 0) |
+                    typedArray.getInt(R.styleable.BannerView_loopMode, MULTI_MODE_INFINITE_LOOP);
+            setPagingIntervalTime(typedArray.getInt(R.styleable.BannerView_pagingIntervalTime, 0));
+            setDecelerateMultiple(typedArray.getInt(R.styleable.BannerView_decelerateMultiple, 0));
+            mIndicatorId = typedArray.getResourceId(R.styleable.BannerView_bannerIndicator, View.NO_ID);
+            mTitleViewId = typedArray.getResourceId(R.styleable.BannerView_titleView, View.NO_ID);
+            mSubTitleViewId = typedArray.getResourceId(R.styleable.BannerView_subTitleView, View.NO_ID);
+            mTouchPauseEnable = typedArray.getBoolean(R.styleable.BannerView_touchPauseEnable, true);
+            visibleThreshold = typedArray.getFloat(R.styleable.BannerView_visibleThreshold, visibleThreshold);
+            typedArray.recycle();
+        }
+        mInterpolator = interpolator == null ? new BannerHelper.BannerInterpolator() : interpolator;
+        mVisibilityTracker = new BannerVisibilityTracker(this, this);
+        mVisibilityTracker.setThreshold(visibleThreshold);
+        mLayoutManager = new LinearLayoutManager(context, LinearLayoutManager.HORIZONTAL, false);
+        setLayoutManager(mLayoutManager);
+        setHasFixedSize(true);
+        //翻页时不需要条目动画。
+        setItemAnimator(null);
+        mSnapHelper.attachToRecyclerView(this);
+        addOnScrollListener(new PageScrollListener());
+    }
+
+    /**
+     * 设置条目数据并开始轮播。
+     *
+     * @param items {@link BannerEntry} 集合。
+     */
+    public void setEntries(@NonNull List<? extends BannerEntry> items) {
+        setEntries(items, true);
+    }
+
+    /**
+     * 设置条目数据。
+     *
+     * @param items {@link BannerEntry} 集合。
+     * @param start 是否开始轮播。
+     */
+    public void setEntries(@NonNull List<? extends BannerEntry> items, boolean start) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        if (mAdapter.setItems(items)) {
+            //重新设置适配器会清空复用池，所有的页面都将重新创建。
+            setAdapter(mAdapter);
+            findRelevantViews();
+            checkIndicatorEnable(items);
+            if (start) {
+                if (isStarted()) {
+                    stop();
+                }
+                start();
+            } else {
+                selectCenterPage(0);
+            }
+        }
+    }
+
+    /**
+     * 数据源发生改变后通知刷新所有View，所有正在显示及缓存中的页面都会重新执行{@link BannerEntry#onBindData(View)}方法。
+     */
+    public void notifyRefresh() {
+        mAdapter.notifyItemRangeChanged(0, mAdapter.getItemCount());
+    }
+
+    /**
+     * 获取数据源集合。
+     */
+    public List<? extends BannerEntry> getEntries() {
+        return mAdapter.mItems;
+    }
+
+    /**
+     * 根据位置获取BannerEntry。
+     *
+     * @param position 要获取的索引。
+     * @param <E>      BannerEntry的具体类型。
+     * @return 返回对应索引的BannerEntry。
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends BannerEntry> E getEntry(int position) {
+        return (E) mAdapter.getItem(position);
+    }
+
+    /**
+     * 获取当前页面的索引，这个索引永远会在你的集合的size范围内。
+     */
+    public int getCurrentIndex() {
+        return mAdapter.isEmpty() || mCurrentPosition == NO_POSITION ? 0 : mAdapter.getIndex(mCurrentPosition);
+    }
+
+    /**
+     * 设置翻页的间隔时间，单位：毫秒。
+     *
+     * @param pagingIntervalTime 要设置的时长。
+     */
+    public void setPagingIntervalTime(@Size(min = 1000) int pagingIntervalTime) {
+        if (pagingIntervalTime >= 1) {
+            mPagingIntervalTime = pagingIntervalTime;
+        }
+    }
+
+    /**
+     * 设置翻页动画减速倍数。
+     *
+     * @param multiple 要减速的倍数。
+     */
+    public void setDecelerateMultiple(@Size(min = 2) int multiple) {
+        if (multiple > 1) {
+            mMultiple = multiple;
+        }
+    }
+
+    /**
+     * 设置可见阈值。
+     *
+     * @param threshold 可见面积的比例，取值范围0~1，默认为0.5。
+     * @see BannerView#setVisibleThreshold(float)
+     */
+    public void setVisibleThreshold(@FloatRange(from = 0, to = 1) float threshold) {
+        mVisibilityTracker.setThreshold(threshold);
+    }
+
+    /**
+     * 设置禁止用户滑动。
+     *
+     * @param enable 是否要禁止用户滑动。
+     */
+    public void setIsUserInputEnable(boolean enable) {
+        mIsUserInputEnable = enable;
+    }
+
+    public boolean isUserInputEnable() {
+        return mIsUserInputEnable;
+    }
+
+    /**
+     * 设置当Banner只有一张图片时的处理模式。
+     *
+     * @see BannerView#setSinglePageMode(int)
+     */
+    public void setSinglePageMode(int singlePageMode) {
+        singlePageMode &= BannerEngineSupport.SINGLE_PAGE_MODE_MASK;
+        if (BannerEngineSupport.isValidSinglePageMode(singlePageMode)) {
+            mPageModeFlags = getMultiPageMode() | singlePageMode;
+        }
+    }
+
+    public void setOnPageClickListener(BannerView.OnPageClickListener listener) {
+        mOnPageClickListener = listener;
+    }
+
+    public void setOnPageLongClickListener(BannerView.OnPageLongClickListener listener) {
+        mOnPageLongClickListener = listener;
+    }
+
+    public void setOnPageChangedListener(BannerView.OnPageChangeListener listener) {
+        mOnPageChangeListener = listener;
+    }
+
+    public void doOnPageSelected(BannerView.DoOnPageSelectedListener listener) {
+        mDoOnPageSelectedListener = listener;
+    }
+
+    public void doOnPageScrolled(BannerView.DoOnPageScrolledListener listener) {
+        mDoOnPageScrolledListener = listener;
+    }
+
+    public void doOnPageScrollStateChanged(BannerView.DoOnPageScrollStateChangedListener listener) {
+        mDoOnPageScrollStateChangedListener = listener;
+    }
+
+    /**
+     * 设置页面指示器控件。
+     *
+     * @param indicatorView {@link Pageable} 对象。
+     */
+    public <V extends View & Pageable> void setIndicatorView(@NonNull V indicatorView) {
+        mIndicatorView = indicatorView;
+        checkIndicatorEnable(mAdapter.mItems);
+    }
+
+    /**
+     * 设置标题显示控件。
+     *
+     * @param titleView 用来显示标题的TextView。
+     */
+    public void setTitleView(TextView titleView) {
+        if (titleView != null) {
+            BannerEngineSupport.showTitles(titleView, null, mAdapter.isEmpty() ? null : mAdapter.getItem(getCurrentIndex()));
+            mTitleView = titleView;
+        }
+    }
+
+    /**
+     * 设置副标题显示控件。
+     *
+     * @param subTitleView 用来显示副标题的TextView。
+     */
+    public void setSubTitleView(TextView subTitleView) {
+        if (subTitleView != null) {
+            BannerEngineSupport.showTitles(null, subTitleView, mAdapter.isEmpty() ? null : mAdapter.getItem(getCurrentIndex()));
+            mSubTitleView = subTitleView;
+        }
+    }
+
+    /**
+     * 开始轮播。
+     */
+    public void start() {
+        if (mAdapter.mItems == null) {
+            throw new NullPointerException("you must call setEntries method!");
+        }
+        if (mIsStarted && !mIsPaused) {
+            return;
+        }
+        mIsStarted = true;
+        mIsPaused = false;
+        if (mIsNeverStarted) {
+            mIsNeverStarted = false;
+            selectCenterPage(0);
+        }
+        if (mSuspendFlags != 0) {
+            mIsPaused = true;
+        } else if (canPaging()) {
+            mNextPagingTime = SystemClock.uptimeMillis() + mPagingIntervalTime;
+            mScheduler.schedule(this, mNextPagingTime);
+        }
+    }
+
+    /**
+     * 停止轮播。
+     */
+    public void stop() {
+        mScheduler.cancel(this);
+        mIsPaused = true;
+        mIsStarted = false;
+        mIsNeverStarted = true;
+    }
+
+    /**
+     * 是否已经启动轮播。
+     */
+    public boolean isStarted() {
+        return mIsStarted;
+    }
+
+    private void pause() {
+        if (!mIsPaused && !mIsNeverStarted) {
+            mIsPaused = true;
+            mScheduler.cancel(this);
+        }
+    }
+
+    private void reStart() {
+        if (mIsStarted && mIsPaused && mSuspendFlags == 0) {
+            start();
+        }
+    }
+
+    private void suspend(int reason) {
+        mSuspendFlags |= reason;
+        pause();
+    }
+
+    private void resume(int reason) {
+        if ((mSuspendFlags & reason) != 0) {
+            mSuspendFlags &= ~reason;
+            reStart();
+        }
+    }
+
+    /**
+     * 选择中间页。必须在setEntries方法之后调用。
+     */
+    public void selectCenterPage() {
+        selectCenterPage(0);
+    }
+
+    /**
+     * 选择中间页。必须在setEntries方法之后调用。
+     *
+     * @param offset 向右偏移的页数。
+     */
+    public void selectCenterPage(int offset) {
+        if (mAdapter.mItems == null) {
+            throw new RuntimeException("You need to call the 'setEntries' method before calling the 'selectCenterPage' method!");
+        }
+        int position = mAdapter.getCenterPosition() + offset;
+        if (position < 0 || position >= mAdapter.getItemCount()) {
+            position = mAdapter.getCenterPosition();
+        }
+        mLayoutManager.scrollToPositionWithOffset(position, 0);
+        dispatchPageSelected(position);
+    }
+
+    @Override
+    public void onPagingTick() {
+        if (mIsPaused || mAdapter.isEmpty()) {
+            return;
+        }
+        if (isInfiniteLoopMode() && mCurrentPosition >= mAdapter.getItemCount() - 1) {
+            //无限轮播模式下已经到达了最后一轮的末尾(几乎不可能发生)，回到中间。
+            selectCenterPage(0);
+        } else {
+            int nextPage = BannerEngineSupport.getNextPage(mCurrentPosition, mAdapter.getItemCount(), getMultiPageMode());
+            if (nextPage == BannerEngineSupport.NO_PAGE) {
+                stop();
+                return;
+            }
+            smoothScrollToPage(nextPage);
+        }
+        mNextPagingTime = BannerEngineSupport.getNextPagingTime(mNextPagingTime, mPagingIntervalTime, SystemClock.uptimeMillis());
+        mScheduler.schedule(this, mNextPagingTime);
+    }
+
+    private void smoothScrollToPage(int position) {
+        PageSmoothScroller scroller = new PageSmoothScroller(getContext());
+        scroller.setTargetPosition(position);
+        mLayoutManager.startSmoothScroll(scroller);
+        dispatchPageSelected(position);
+    }
+
+    private void dispatchPageSelected(int position) {
+        if (position == mCurrentPosition || mAdapter.isEmpty()) {
+            return;
+        }
+        mCurrentPosition = position;
+        int index = mAdapter.getIndex(position);
+        BannerEntry entry = mAdapter.getItem(index);
+        if (mIndicatorEnable) {
+            mIndicatorView.setCurrentPage(index);
+        }
+        BannerEngineSupport.showTitles(mTitleView, mSubTitleView, entry);
+        if (mOnPageChangeListener != null) {
+            mOnPageChangeListener.onPageSelected(entry, index);
+        }
+        if (mDoOnPageSelectedListener != null) {
+            mDoOnPageSelectedListener.onPageSelected(entry, index);
+        }
+    }
+
+    @Override
+    public boolean dispatchTouchEvent(MotionEvent ev) {
+        if (mTouchPauseEnable && mIsUserInputEnable) {
+            switch (ev.getActionMasked()) {
+                case MotionEvent.ACTION_DOWN:
+                    pause();
+                    break;
+                case MotionEvent.ACTION_UP:
+                case MotionEvent.ACTION_CANCEL:
+                    reStart();
+                    break;
+            }
+        }
+        return super.dispatchTouchEvent(ev);
+    }
+
+    @Override
+    public boolean onInterceptTouchEvent(MotionEvent e) {
+        return mIsUserInputEnable && super.onInterceptTouchEvent(e);
+    }
+
+    @SuppressLint("ClickableViewAccessibility")
+    @Override
+    public boolean onTouchEvent(MotionEvent e) {
+        return mIsUserInputEnable && super.onTouchEvent(e);
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        mVisibilityTracker.attach();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        mVisibilityTracker.detach();
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        if (lastVisibilityStatus != visibility) {
+            lastVisibilityStatus = visibility;
+            if (visibility == View.GONE) {
+                suspend(BannerHelper.SUSPEND_WINDOW_GONE);
+            } else {
+                findRelevantViews();
+                resume(BannerHelper.SUSPEND_WINDOW_GONE);
+            }
+        }
+    }
+
+    @Override
+    public void onVisibleChanged(boolean visible) {
+        if (visible) {
+            resume(BannerHelper.SUSPEND_INVISIBLE);
+        } else {
+            suspend(BannerHelper.SUSPEND_INVISIBLE);
+        }
+    }
+
+    private int getSinglePageModeFlags() {
+        return mPageModeFlags & BannerEngineSupport.SINGLE_PAGE_MODE_MASK;
+    }
+
+    private int getMultiPageMode() {
+        return mPageModeFlags & BannerEngineSupport.MULTI_PAGE_MODE_MASK;
+    }
+
+    private boolean canPaging() {
+        return BannerEngineSupport.canPaging(mAdapter.mItems, getSinglePageModeFlags());
+    }
+
+    private boolean isInfiniteLoopMode() {
+        return getMultiPageMode() == MULTI_MODE_INFINITE_LOOP && canPaging();
+    }
+
+    private void checkIndicatorEnable(List<? extends BannerEntry> items) {
+        mIndicatorEnable = BannerEngineSupport.updateIndicator(mIndicatorView, items, getSinglePageModeFlags());
+    }
+
+    private void findRelevantViews() {
+        ViewParent parent = getParent();
+        if (parent instanceof ViewGroup) {
+            if (mIndicatorId != View.NO_ID) {
+                mIndicatorView = BannerEngineSupport.findIndicatorView((ViewGroup) parent, mIndicatorId);
+                checkIndicatorEnable(mAdapter.mItems);
+                mIndicatorId = View.NO_ID;
+            }
+            if (mTitleViewId != View.NO_ID) {
+                setTitleView(BannerEngineSupport.findTextView((ViewGroup) parent, mTitleViewId, "TitleView"));
+                mTitleViewId = View.NO_ID;
+            }
+            if (mSubTitleViewId != View.NO_ID) {
+                setSubTitleView(BannerEngineSupport.findTextView((ViewGroup) parent, mSubTitleViewId, "SubTitleView"));
+                mSubTitleViewId = View.NO_ID;
+            }
+        }
+    }
+
+    /**
+     * 用来将RecyclerView的滚动事件转换为页面事件。
+     */
+    private class PageScrollListener extends OnScrollListener {
+        @Override
+        public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+            if (newState == SCROLL_STATE_IDLE) {
+                View snapView = mSnapHelper.findSnapView(mLayoutManager);
+                if (snapView != null) {
+                    int position = getChildAdapterPosition(snapView);
+                    if (position != NO_POSITION) {
+                        dispatchPageSelected(position);
+                    }
+                }
+            }
+            //RecyclerView的滚动状态值与ViewPager的滚动状态值是一致的。
+            if (mOnPageChangeListener != null) {
+                mOnPageChangeListener.onPageScrollStateChanged(newState);
+            }
+            if (mDoOnPageScrollStateChangedListener != null) {
+                mDoOnPageScrollStateChangedListener.onPageScrollStateChanged(newState);
+            }
+        }
+
+        @Override
+        public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+            if (mOnPageChangeListener == null && mDoOnPageScrolledListener == null) {
+                return;
+            }
+            int first = mLayoutManager.findFirstVisibleItemPosition();
+            View firstView = first == NO_POSITION ? null : mLayoutManager.findViewByPosition(first);
+            if (firstView != null && firstView.getWidth() > 0) {
+                int offsetPixels = getPaddingLeft() - firstView.getLeft();
+                float offset = (float) offsetPixels / firstView.getWidth();
+                int index = mAdapter.getIndex(first);
+                if (mOnPageChangeListener != null) {
+                    mOnPageChangeListener.onPageScrolled(index, offset, offsetPixels);
+                }
+                if (mDoOnPageScrolledListener != null) {
+                    mDoOnPageScrolledListener.onPageScrolled(index, offset, offsetPixels);
+                }
+            }
+        }
+    }
+
+    /**
+     * 自动翻页时使用的平滑滚动器，使用设置的差值器及减速倍数。
+     */
+    private class PageSmoothScroller extends LinearSmoothScroller {
+
+        private PageSmoothScroller(Context context) {
+            super(context);
+        }
+
+        @Override
+        protected int getHorizontalSnapPreference() {
+            return SNAP_TO_START;
+        }
+
+        @Override
+        protected void onTargetFound(View targetView, RecyclerView.State state, Action action) {
+            int dx = calculateDxToMakeVisible(targetView, SNAP_TO_START);
+            int time = calculateTimeForDeceleration(Math.abs(dx)) * mMultiple;
+            if (time > 0) {
+                action.update(-dx, 0, time, mInterpolator);
+            }
+        }
+    }
+
+    /**
+     * 页面的ViewHolder。
+     */
+    private class PageHolder extends ViewHolder implements OnClickListener, OnLongClickListener {
+        /**
+         * 当前绑定的数据模型。
+         */
+        private BannerEntry entry;
+        /**
+         * 当前绑定的数据模型的索引。
+         */
+        private int index;
+
+        private PageHolder(@NonNull View itemView) {
+            super(itemView);
+        }
+
+        private void bind(BannerEntry entry, int index) {
+            this.entry = entry;
+            this.index = index;
+            entry.onBindData(itemView);
+            itemView.setOnClickListener(mOnPageClickListener == null ? null : this);
+            itemView.setOnLongClickListener(mOnPageLongClickListener == null ? null : this);
+        }
+
+        private void unbind() {
+            if (entry != null) {
+                BannerImageLoader.recyclePage(itemView);
+                entry.unbindData(itemView);
+                entry = null;
+            }
+        }
+
+        @Override
+        public void onClick(View v) {
+            if (entry != null && mOnPageClickListener != null) {
+                mOnPageClickListener.onPageClick(entry, index);
+            }
+        }
+
+        @Override
+        public boolean onLongClick(View v) {
+            if (entry != null && mOnPageLongClickListener != null) {
+                mOnPageLongClickListener.onPageLongClick(entry, index);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 页面适配器。
+     */
+    private class EntryAdapter extends Adapter<PageHolder> {
+        /**
+         * 用来存放所有页面的模型对象。
+         */
+        private List<? extends BannerEntry> mItems;
+        /**
+         * 记录每一种声明过的页面类型最近一次对应的模型索引，用来在创建页面时找到可以创建该类型页面的模型。
+         */
+        private final SparseIntArray mTypeIndexes = new SparseIntArray();
+
+        @Override
+        public int getItemCount() {
+            if (mItems == null) {
+                return 0;
+            }
+            return isInfiniteLoopMode() ? mItems.size() * getLoopRounds() : mItems.size();
+        }
+
+        /**
+         * 实现了{@link TypedBannerEntry}的模型使用自己声明的页面类型，相同类型的页面之间可以相互复用；
+         * 没有声明页面类型的模型则使用由索引换算出的负数类型，页面只会在相同的数据模型之间复用。
+         */
+        @Override
+        public int getItemViewType(int position) {
+            int index = getIndex(position);
+            BannerEntry entry = mItems.get(index);
+            int viewType = entry instanceof TypedBannerEntry ? ((TypedBannerEntry) entry).getViewType() : TypedBannerEntry.NO_VIEW_TYPE;
+            if (viewType < 0) {
+                return -2 - index;
+            } else {
+                mTypeIndexes.put(viewType, index);
+                return viewType;
+            }
+        }
+
+        @NonNull
+        @Override
+        public PageHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            int index = viewType < 0 ? -2 - viewType : mTypeIndexes.get(viewType);
+            View entryView = mItems.get(index).onCreateView(parent);
+            if (entryView.getParent() != null) {
+                throw new IllegalStateException("The specified child already has a parent. You must call removeView() on the child's parent first.");
+            }
+            ViewGroup.LayoutParams lp = entryView.getLayoutParams();
+            if (lp == null) {
+                entryView.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+            } else if (lp.width != ViewGroup.LayoutParams.MATCH_PARENT) {
+                //每一页都必须占满整个BannerView。
+                lp.width = ViewGroup.LayoutParams.MATCH_PARENT;
+            }
+            return new PageHolder(entryView);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull PageHolder holder, int position) {
+            int index = getIndex(position);
+            holder.unbind();
+            holder.bind(mItems.get(index), index);
+        }
+
+        @Override
+        public void onViewRecycled(@NonNull PageHolder holder) {
+            holder.unbind();
+        }
+
+        private int getLoopRounds() {
+            return Math.min(INFINITE_LOOP_ROUNDS, Integer.MAX_VALUE / mItems.size());
+        }
+
+        /**
+         * 获取最中间位置的第一页的位置。
+         */
+        int getCenterPosition() {
+            return isInfiniteLoopMode() ? (getLoopRounds() >>> 1) * mItems.size() : 0;
+        }
+
+        int getIndex(int position) {
+            return position % mItems.size();
+        }
+
+        BannerEntry getItem(int index) {
+            return mItems.get(index);
+        }
+
+        boolean isEmpty() {
+            return mItems == null || mItems.isEmpty();
+        }
+
+        boolean setItems(List<? extends BannerEntry> items) {
+            boolean changed = mItems == null || !BannerEntryDiff.isUnchanged(mItems, items);
+            if (changed) {
+                mItems = items;
+                mTypeIndexes.clear();
+                mCurrentPosition = NO_POSITION;
+            }
+            return changed;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kelin.banner.view;
+
+import android.util.Log;
+import android.widget.Scroller;
+
+import androidx.annotation.NonNull;
+import androidx.viewpager.widget.ViewPager;
+
+import java.lang.reflect.Field;
+
+/**
+ * 描述 ViewPager私有成员的访问器注册表。
+ * <p>所有需要访问的ViewPager私有成员都在这里进程内只解析一次并缓存起来，之后的每次访问都直接使用缓存的结果，
+ * 不再重复执行getDeclaredField及setAccessible。如果某个成员在当前的ViewPager版本中不存在则会安全的降级，而不是抛出异常。
+ * <p>由于MethodHandle需要API 26，而该库需要兼容到API 16，所以这里缓存的是已经设置为可访问的{@link Field}。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午4:40
+ * 版本 v 1.0.0
+ */
+
+final class ViewPagerAccessors {
+
+    private static final String TAG = "ViewPagerAccessors";
+
+    /**
+     * 是否已经解析过了。
+     */
+    private static volatile boolean sResolved;
+    /**
+     * ViewPager的mScroller字段，如果不存在则为null。
+     */
+    private static Field sScrollerField;
+
+    private ViewPagerAccessors() {
+    }
+
+    /**
+     * 预先解析所有的访问器，可以在Application启动时调用，这样第一个BannerView被创建时就不需要再进行解析了。
+     */
+    static void warmUp() {
+        resolve();
+    }
+
+    private static void resolve() {
+        if (!sResolved) {
+            synchronized (ViewPagerAccessors.class) {
+                if (!sResolved) {
+                    sScrollerField = findField(ViewPager.class, "mScroller");
+                    sResolved = true;
+                }
+            }
+        }
+    }
+
+    private static Field findField(Class<?> cls, String fieldName) {
+        try {
+            Field field = cls.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return field;
+        } catch (Exception e) {
+            Log.w(TAG, "The field " + cls.getSimpleName() + "." + fieldName + " is not available, fall back to the default behavior.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 替换ViewPager的Scroller。
+     *
+     * @param viewPager 要替换的ViewPager。
+     * @param scroller  新的Scroller。
+     * @return 替换成功返回true，如果当前的ViewPager版本不支持替换则返回false，此时ViewPager会继续使用自己的Scroller。
+     */
+    static boolean setScroller(@NonNull ViewPager viewPager, @NonNull Scroller scroller) {
+        resolve();
+        if (sScrollerField != null) {
+            try {
+                sScrollerField.set(viewPager, scroller);
+                return true;
+            } catch (IllegalAccessException e) {
+                Log.w(TAG, "Failed to replace the scroller of ViewPager.", e);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.kelin.banner.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 描述 {@link BannerImageDecoder#computeSampleSize(int, int, int, int)}的测试：采样率是2的幂次，并且采样后的尺寸不会小于目标尺寸。
+ * 创建人 kelin
+ * 创建时间 2026/10/19  上午0:20
+ * 版本 v 1.0.0
+ */
+
+public class BannerImageDecoderTest {
+
+    @Test
+    public void noSamplingWithoutTargetSize() {
+        assertEquals(1, BannerImageDecoder.computeSampleSize(4000, 3000, 0, 0));
+        assertEquals(1, BannerImageDecoder.computeSampleSize(4000, 3000, 1080, 0));
+        assertEquals(1, BannerImageDecoder.computeSampleSize(4000, 3000, 0, 540));
+    }
+
+    @Test
+    public void noSamplingWhenSmallerThanTarget() {
+        assertEquals(1, BannerImageDecoder.computeSampleSize(1080, 540, 1080, 540));
+        assertEquals(1, BannerImageDecoder.computeSampleSize(800, 400, 1080, 540));
+        //宽度可以减半但高度不行。
+        assertEquals(1, BannerImageDecoder.computeSampleSize(2160, 1000, 1080, 540));
+    }
+
+    @Test
+    public void sampleSizeIsTheLargestPowerOfTwoThatKeepsTheTargetSize() {
+        assertEquals(2, BannerImageDecoder.computeSampleSize(2160, 1080, 1080, 540));
+        assertEquals(2, BannerImageDecoder.computeSampleSize(4319, 2159, 1080, 540));
+        assertEquals(4, BannerImageDecoder.computeSampleSize(4320, 2160, 1080, 540));
+        assertEquals(8, BannerImageDecoder.computeSampleSize(10000, 5000, 1080, 540));
+    }
+
+    @Test
+    public void sampledSizeIsNeverSmallerThanTheTarget() {
+        int[] sizes = {1, 7, 100, 540, 1079, 1080, 1081, 2047, 2048, 4321, 9999};
+        for (int width : sizes) {
+            for (int height : sizes) {
+                int sampleSize = BannerImageDecoder.computeSampleSize(width, height, 100, 50);
+                assertEquals(0, Integer.bitCount(sampleSize) - 1);
+                if (sampleSize > 1) {
+                    assertTrue(width / sampleSize >= 100 && height / sampleSize >= 50);
+                }
+                //再大一倍就会小于目标尺寸。
+                assertFalse(width / (sampleSize * 2) >= 100 && height / (sampleSize * 2) >= 50);
+            }
+        }
+    }
+}
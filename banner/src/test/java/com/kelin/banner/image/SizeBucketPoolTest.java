@@ -0,0 +1,145 @@
+package com.kelin.banner.image;
+
+import androidx.annotation.NonNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 描述 {@link SizeBucketPool}的测试：分桶、向下一个桶查找、完全匹配、预算及丢弃顺序。
+ * 创建人 kelin
+ * 创建时间 2026/10/19  上午0:10
+ * 版本 v 1.0.0
+ */
+
+public class SizeBucketPoolTest {
+
+    private static final int MAX_SIZE = 1000;
+
+    private SizeBucketPool<Item> mPool;
+
+    @Before
+    public void setUp() {
+        mPool = new SizeBucketPool<Item>(MAX_SIZE) {
+            @Override
+            int getBytes(@NonNull Item item) {
+                return item.bytes;
+            }
+        };
+    }
+
+    @Test
+    public void bucketsArePowersOfTwo() {
+        assertEquals(0, SizeBucketPool.getBucket(0));
+        assertEquals(0, SizeBucketPool.getBucket(1));
+        assertEquals(1, SizeBucketPool.getBucket(2));
+        assertEquals(2, SizeBucketPool.getBucket(3));
+        assertEquals(2, SizeBucketPool.getBucket(4));
+        assertEquals(3, SizeBucketPool.getBucket(5));
+        assertEquals(10, SizeBucketPool.getBucket(1024));
+        assertEquals(11, SizeBucketPool.getBucket(1025));
+        assertEquals(31, SizeBucketPool.getBucket(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void getsLargeEnoughItemFromTheSameBucket() {
+        Item small = new Item(100);
+        Item large = new Item(120);
+        mPool.put(small);
+        mPool.put(large);
+        //100及120都在(64, 128]的桶中，只有120足够大。
+        assertSame(large, mPool.get(110));
+        assertNull(mPool.get(110));
+        assertSame(small, mPool.get(90));
+        assertEquals(0, mPool.getSize());
+    }
+
+    @Test
+    public void fallsBackToTheNextBucketOnly() {
+        Item next = new Item(200);
+        Item farther = new Item(400);
+        mPool.put(next);
+        mPool.put(farther);
+        //需要100字节时只查找(64, 128]及(128, 256]两个桶，不会使用大了不止一倍的对象。
+        assertSame(next, mPool.get(100));
+        assertNull(mPool.get(100));
+        assertEquals(400, mPool.getSize());
+    }
+
+    @Test
+    public void exactMatchOnlySearchesTheSameBucket() {
+        final Item exact = new Item(100);
+        Item other = new Item(100);
+        mPool.put(exact);
+        mPool.put(other);
+        mPool.put(new Item(200));
+        SizeBucketPool.Matcher<Item> matcher = new SizeBucketPool.Matcher<Item>() {
+            @Override
+            public boolean matches(@NonNull Item item) {
+                return item == exact;
+            }
+        };
+        assertSame(exact, mPool.getExact(100, matcher));
+        assertNull(mPool.getExact(100, matcher));
+        assertEquals(2, mPool.getCount());
+    }
+
+    @Test
+    public void rejectsDuplicatesAndItemsLargerThanTheBudget() {
+        Item item = new Item(100);
+        assertTrue(mPool.put(item));
+        assertFalse(mPool.put(item));
+        assertFalse(mPool.put(new Item(MAX_SIZE + 1)));
+        assertEquals(100, mPool.getSize());
+        assertEquals(1, mPool.getCount());
+    }
+
+    @Test
+    public void evictsTheOldestItemsFirst() {
+        Item first = new Item(400);
+        Item second = new Item(300);
+        Item third = new Item(200);
+        Item fourth = new Item(300);
+        mPool.put(first);
+        mPool.put(second);
+        mPool.put(third);
+        assertEquals(900, mPool.getSize());
+        //超出预算，丢弃最早放入的400字节。
+        mPool.put(fourth);
+        assertEquals(800, mPool.getSize());
+        assertEquals(1, mPool.getEvictionCount());
+        assertNull(mPool.get(350));
+
+        //被取出的对象不再参与丢弃，剩下的对象按照放入的顺序丢弃。
+        assertSame(third, mPool.get(200));
+        mPool.setMaxSize(300);
+        assertEquals(300, mPool.getSize());
+        assertEquals(2, mPool.getEvictionCount());
+        assertSame(fourth, mPool.get(300));
+    }
+
+    @Test
+    public void clearReleasesEverything() {
+        mPool.put(new Item(100));
+        mPool.put(new Item(200));
+        assertEquals(300, mPool.clear());
+        assertEquals(0, mPool.getSize());
+        assertEquals(0, mPool.getCount());
+        assertEquals(2, mPool.getEvictionCount());
+        assertNull(mPool.get(1));
+    }
+
+    private static class Item {
+        private final int bytes;
+
+        private Item(int bytes) {
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.kelin.banner.transformer;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 描述 {@link KeyframePageTransformer}查表的测试。与自带的翻页动画的对比需要真实的View，见androidTest中的
+ * KeyframePageTransformerEquivalenceTest及KeyframePageTransformerBenchmark。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午9:10
+ * 版本 v 1.0.0
+ */
+
+public class KeyframePageTransformerTest {
+
+    private static final int PROPERTY_COUNT = 10;
+    private static final float UNTOUCHED = 42;
+
+    @Test
+    public void keyframesAreInterpolatedLinearly() {
+        KeyframePageTransformer transformer = KeyframePageTransformer.alpha();
+        float[] out = new float[PROPERTY_COUNT];
+        float[] positions = {-1, -0.5F, 0, 0.25F, 1};
+        float[] alphas = {0, 0.5F, 1, 0.75F, 0};
+        for (int i = 0; i < positions.length; i++) {
+            transformer.sample(positions[i], out);
+            assertEquals("alpha at " + positions[i], alphas[i], out[KeyframePageTransformer.ALPHA], 1e-4F);
+            assertEquals("translationX at " + positions[i], -positions[i], out[KeyframePageTransformer.TRANSLATION_X], 1e-4F);
+        }
+    }
+
+    @Test
+    public void onlyActivePropertiesAreWritten() {
+        KeyframePageTransformer transformer = KeyframePageTransformer.alpha();
+        float[] out = new float[PROPERTY_COUNT];
+        Arrays.fill(out, UNTOUCHED);
+        transformer.sample(0.5F, out);
+        for (int property = 0; property < PROPERTY_COUNT; property++) {
+            if (property != KeyframePageTransformer.ALPHA && property != KeyframePageTransformer.TRANSLATION_X) {
+                assertEquals("property " + property, UNTOUCHED, out[property], 0);
+            }
+        }
+    }
+
+    @Test
+    public void outsideValuesOrEdgeValuesAreUsedOutOfRange() {
+        KeyframePageTransformer transformer = KeyframePageTransformer.alpha();
+        float[] out = new float[PROPERTY_COUNT];
+        transformer.sample(-2, out);
+        assertEquals(0, out[KeyframePageTransformer.ALPHA], 0);
+        assertEquals(1, out[KeyframePageTransformer.TRANSLATION_X], 1e-4F);
+        transformer.sample(5, out);
+        assertEquals(0, out[KeyframePageTransformer.ALPHA], 0);
+        assertEquals(-1, out[KeyframePageTransformer.TRANSLATION_X], 1e-4F);
+    }
+
+    @Test
+    public void curvesAreSampledWithinTheRange() {
+        KeyframePageTransformer transformer = new KeyframePageTransformer.Builder(-2, 2)
+                .curve(KeyframePageTransformer.ROTATION, new KeyframePageTransformer.Curve() {
+                    @Override
+                    public float valueAt(float position) {
+                        return position * position;
+                    }
+                })
+                .samplesPerUnit(128)
+                .build();
+        float[] out = new float[PROPERTY_COUNT];
+        for (float position = -2; position <= 2; position += 0.01F) {
+            transformer.sample(position, out);
+            //线性插值的误差不超过二阶导数乘以采样间隔平方的八分之一。
+            assertEquals("rotation at " + position, position * position, out[KeyframePageTransformer.ROTATION], 1e-4F);
+        }
+    }
+
+    @Test
+    public void galleryDeclaresItsTranslation() {
+        assertEquals(1, KeyframePageTransformer.gallery().getMaxTranslationPages(), 0);
+        assertEquals(0, KeyframePageTransformer.alpha().getMaxTranslationPages(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void keyframesMustBeAscending() {
+        new KeyframePageTransformer.Builder().keyframes(KeyframePageTransformer.ALPHA, 1, 0, -1, 1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.kelin.banner.view;
+
+import com.kelin.banner.BannerEntry;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.kelin.banner.view.BannerView.MULTI_MODE_FROM_COVER_TO_COVER;
+import static com.kelin.banner.view.BannerView.MULTI_MODE_FROM_COVER_TO_COVER_LOOP;
+import static com.kelin.banner.view.BannerView.MULTI_MODE_INFINITE_LOOP;
+import static com.kelin.banner.view.BannerView.SINGLE_MODE_CAN_NOT_PAGING;
+import static com.kelin.banner.view.BannerView.SINGLE_MODE_NO_INDICATOR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 描述 {@link BannerEngineSupport}中两个引擎共用的翻页规则的测试。
+ * 创建人 kelin
+ * 创建时间 2026/10/19  上午0:45
+ * 版本 v 1.0.0
+ */
+
+public class BannerEngineSupportTest {
+
+    @Test
+    public void singlePageCanNotPagingOnlyWhenRequested() {
+        assertFalse(BannerEngineSupport.canPaging(null, 0));
+        assertTrue(BannerEngineSupport.canPaging(entries(1), 0));
+        assertTrue(BannerEngineSupport.canPaging(entries(1), SINGLE_MODE_NO_INDICATOR));
+        assertFalse(BannerEngineSupport.canPaging(entries(1), SINGLE_MODE_CAN_NOT_PAGING));
+        assertTrue(BannerEngineSupport.canPaging(entries(2), SINGLE_MODE_CAN_NOT_PAGING));
+    }
+
+    @Test
+    public void singlePageHidesTheIndicatorOnlyWhenRequested() {
+        assertFalse(BannerEngineSupport.isIndicatorEnable(null, 0));
+        assertFalse(BannerEngineSupport.isIndicatorEnable(entries(0), 0));
+        assertTrue(BannerEngineSupport.isIndicatorEnable(entries(1), SINGLE_MODE_CAN_NOT_PAGING));
+        assertFalse(BannerEngineSupport.isIndicatorEnable(entries(1), SINGLE_MODE_NO_INDICATOR));
+        assertTrue(BannerEngineSupport.isIndicatorEnable(entries(2), SINGLE_MODE_NO_INDICATOR));
+    }
+
+    @Test
+    public void singlePageModeAcceptsOnlyKnownFlags() {
+        assertTrue(BannerEngineSupport.isValidSinglePageMode(SINGLE_MODE_NO_INDICATOR));
+        assertTrue(BannerEngineSupport.isValidSinglePageMode(SINGLE_MODE_CAN_NOT_PAGING));
+        assertTrue(BannerEngineSupport.isValidSinglePageMode(SINGLE_MODE_NO_INDICATOR | SINGLE_MODE_CAN_NOT_PAGING));
+        assertFalse(BannerEngineSupport.isValidSinglePageMode(0));
+        assertFalse(BannerEngineSupport.isValidSinglePageMode(0x04));
+    }
+
+    @Test
+    public void nextPageFollowsTheMultiPageMode() {
+        assertEquals(3, BannerEngineSupport.getNextPage(2, 5, MULTI_MODE_FROM_COVER_TO_COVER));
+        assertEquals(BannerEngineSupport.NO_PAGE, BannerEngineSupport.getNextPage(4, 5, MULTI_MODE_FROM_COVER_TO_COVER));
+        assertEquals(0, BannerEngineSupport.getNextPage(4, 5, MULTI_MODE_FROM_COVER_TO_COVER_LOOP));
+        assertEquals(BannerEngineSupport.NO_PAGE, BannerEngineSupport.getNextPage(4, 5, MULTI_MODE_INFINITE_LOOP));
+        //还没有选中任何页面时从第一页开始。
+        assertEquals(0, BannerEngineSupport.getNextPage(-1, 5, MULTI_MODE_FROM_COVER_TO_COVER));
+    }
+
+    @Test
+    public void singlePageKeepsItsPosition() {
+        assertEquals(0, BannerEngineSupport.getNextPage(0, 1, MULTI_MODE_FROM_COVER_TO_COVER));
+        assertEquals(0, BannerEngineSupport.getNextPage(0, 1, MULTI_MODE_FROM_COVER_TO_COVER_LOOP));
+    }
+
+    @Test
+    public void pagingTimeAccumulatesWithoutDrift() {
+        assertEquals(6000, BannerEngineSupport.getNextPagingTime(1000, 5000, 1200));
+        //错过了截止时间时从当前时间重新对齐。
+        assertEquals(25000, BannerEngineSupport.getNextPagingTime(1000, 5000, 20000));
+        assertEquals(11000, BannerEngineSupport.getNextPagingTime(1000, 5000, 6000));
+    }
+
+    private static List<BannerEntry> entries(int count) {
+        return Collections.<BannerEntry>nCopies(count, null);
+    }
+}
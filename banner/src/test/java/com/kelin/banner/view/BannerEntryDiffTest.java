@@ -0,0 +1,97 @@
+package com.kelin.banner.view;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+
+import com.kelin.banner.BannerEntry;
+import com.kelin.banner.SimpleBannerEntry;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 描述 {@link BannerEntryDiff}的测试：稳定ID及内容哈希只在同一种模型之间比较。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午11:10
+ * 版本 v 1.0.0
+ */
+
+public class BannerEntryDiffTest {
+
+    private static final long ID = 42;
+    private static final long HASH = 7;
+
+    @Test
+    public void sameClassWithSameIdAndHashIsUnchanged() {
+        assertTrue(BannerEntryDiff.isUnchanged(new ImageEntry(ID, HASH), new ImageEntry(ID, HASH)));
+        assertTrue(new ImageEntry(ID, HASH).theSame(new ImageEntry(ID, HASH)));
+    }
+
+    @Test
+    public void sameClassWithDifferentHashIsChanged() {
+        assertFalse(BannerEntryDiff.isUnchanged(new ImageEntry(ID, HASH), new ImageEntry(ID, HASH + 1)));
+        assertFalse(new ImageEntry(ID, HASH).theSame(new ImageEntry(ID, HASH + 1)));
+    }
+
+    @Test
+    public void differentClassesWithSameIdAndHashAreChanged() {
+        assertFalse(BannerEntryDiff.isUnchanged(new ImageEntry(ID, HASH), new TitleImageEntry(ID, HASH)));
+        assertFalse(BannerEntryDiff.isUnchanged(new TitleImageEntry(ID, HASH), new ImageEntry(ID, HASH)));
+        assertFalse(new ImageEntry(ID, HASH).theSame(new TitleImageEntry(ID, HASH)));
+        assertFalse(new TitleImageEntry(ID, HASH).theSame(new ImageEntry(ID, HASH)));
+    }
+
+    @Test
+    public void replacingWithAnotherClassChangesTheList() {
+        List<BannerEntry> oldItems = Arrays.<BannerEntry>asList(new ImageEntry(1, HASH), new ImageEntry(ID, HASH));
+        List<BannerEntry> newItems = Arrays.<BannerEntry>asList(new ImageEntry(1, HASH), new TitleImageEntry(ID, HASH));
+        assertFalse(BannerEntryDiff.isUnchanged(oldItems, newItems));
+    }
+
+    private static class ImageEntry extends SimpleBannerEntry<Long> {
+
+        private final long mId;
+        private final long mHash;
+
+        ImageEntry(long id, long hash) {
+            mId = id;
+            mHash = hash;
+        }
+
+        @NonNull
+        @Override
+        public View onCreateView(ViewGroup parent) {
+            throw new UnsupportedOperationException();
+        }
+
+        @NonNull
+        @Override
+        public String getImageUrl() {
+            return "";
+        }
+
+        @Override
+        public long getStableId() {
+            return mId;
+        }
+
+        @Override
+        public long getContentHash() {
+            return mHash;
+        }
+    }
+
+    private static class TitleImageEntry extends ImageEntry {
+
+        TitleImageEntry(long id, long hash) {
+            super(id, hash);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kelin.banner.view;
+
+import android.content.ComponentCallbacks2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 描述 {@link BannerMemoryTrimmer#toTrimLevel(int)}的测试：系统的每一个内存级别对应的释放级别。
+ * 创建人 kelin
+ * 创建时间 2026/10/19  上午0:35
+ * 版本 v 1.0.0
+ */
+
+public class BannerMemoryTrimmerTest {
+
+    @Test
+    public void runningLevelsFollowTheSeverity() {
+        assertEquals(BannerHelper.TRIM_LEVEL_CACHE, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE));
+        assertEquals(BannerHelper.TRIM_LEVEL_IMAGES, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW));
+        assertEquals(BannerHelper.TRIM_LEVEL_OFFSCREEN, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL));
+    }
+
+    @Test
+    public void uiHiddenOnlyDropsTheCache() {
+        assertEquals(BannerHelper.TRIM_LEVEL_CACHE, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN));
+    }
+
+    @Test
+    public void backgroundLevelsFollowTheSeverity() {
+        assertEquals(BannerHelper.TRIM_LEVEL_CACHE, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND));
+        assertEquals(BannerHelper.TRIM_LEVEL_IMAGES, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_MODERATE));
+        assertEquals(BannerHelper.TRIM_LEVEL_OFFSCREEN, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_COMPLETE));
+    }
+
+    @Test
+    public void unknownBackgroundLevelsAreRoundedDown() {
+        //后台的级别是区间，未来新增的级别按照它所在的区间处理。
+        assertEquals(BannerHelper.TRIM_LEVEL_CACHE, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND + 1));
+        assertEquals(BannerHelper.TRIM_LEVEL_IMAGES, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_MODERATE + 1));
+        assertEquals(BannerHelper.TRIM_LEVEL_OFFSCREEN, BannerMemoryTrimmer.toTrimLevel(ComponentCallbacks2.TRIM_MEMORY_COMPLETE + 1));
+    }
+}
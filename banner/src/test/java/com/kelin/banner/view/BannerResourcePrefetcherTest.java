@@ -0,0 +1,157 @@
+package com.kelin.banner.view;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+
+import com.kelin.banner.BannerEntry;
+import com.kelin.banner.BannerPrefetcher;
+import com.kelin.banner.PrefetchableBannerEntry;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 描述 {@link BannerResourcePrefetcher}的测试：预取哪些模型、以什么顺序、是否重复。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午5:50
+ * 版本 v 1.0.0
+ */
+
+public class BannerResourcePrefetcherTest {
+
+    /**
+     * {@link BannerResourcePrefetcher#prefetch(Context, List, int)}不要求Context非空，只是原样传递给模型，
+     * 这里的模型也不会使用它，所以不需要真正的Context。
+     */
+    private static final Context CONTEXT = null;
+
+    private InMemoryBannerPrefetcher mStub;
+    private BannerResourcePrefetcher mPrefetcher;
+
+    @Before
+    public void setUp() {
+        mStub = new InMemoryBannerPrefetcher();
+        mPrefetcher = new BannerResourcePrefetcher(2);
+        mPrefetcher.setPrefetcher(mStub);
+    }
+
+    @Test
+    public void prefetchesNextBeforePreviousAndWrapsAround() {
+        mPrefetcher.prefetch(CONTEXT, entries(6), 0);
+        assertEquals(Arrays.asList("0", "1", "5", "2", "4"), mStub.requests);
+    }
+
+    @Test
+    public void neverPrefetchesTheSameEntryTwice() {
+        List<BannerEntry> items = entries(6);
+        mPrefetcher.prefetch(CONTEXT, items, 0);
+        mPrefetcher.prefetch(CONTEXT, items, 1);
+        mPrefetcher.prefetch(CONTEXT, items, 0);
+        assertEquals(Arrays.asList("0", "1", "5", "2", "4", "3"), mStub.requests);
+    }
+
+    @Test
+    public void distanceIsLimitedToHalfOfTheItems() {
+        mPrefetcher.setDistance(10);
+        mPrefetcher.prefetch(CONTEXT, entries(3), 1);
+        assertEquals(Arrays.asList("1", "2", "0"), mStub.requests);
+    }
+
+    @Test
+    public void zeroDistancePrefetchesOnlyTheCurrentEntry() {
+        mPrefetcher.setDistance(0);
+        mPrefetcher.prefetch(CONTEXT, entries(4), 2);
+        assertEquals(Collections.singletonList("2"), mStub.requests);
+    }
+
+    @Test
+    public void resetAllowsPrefetchingAgain() {
+        List<BannerEntry> items = entries(2);
+        mPrefetcher.prefetch(CONTEXT, items, 0);
+        mPrefetcher.reset();
+        mPrefetcher.prefetch(CONTEXT, items, 0);
+        assertEquals(Arrays.asList("0", "1", "0", "1"), mStub.requests);
+    }
+
+    @Test
+    public void skipsEntriesThatCannotPrefetchAndDoesNothingWithoutPrefetcher() {
+        List<BannerEntry> items = new ArrayList<>(entries(3));
+        items.set(1, new PlainEntry());
+        mPrefetcher.prefetch(CONTEXT, items, 0);
+        assertEquals(Arrays.asList("0", "2"), mStub.requests);
+
+        mStub.requests.clear();
+        mPrefetcher.setPrefetcher(null);
+        mPrefetcher.prefetch(CONTEXT, entries(3), 0);
+        assertTrue(mStub.requests.isEmpty());
+    }
+
+    private static List<BannerEntry> entries(int count) {
+        List<BannerEntry> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new UrlEntry(String.valueOf(i)));
+        }
+        return items;
+    }
+
+    private static class PlainEntry implements BannerEntry<String> {
+
+        @NonNull
+        @Override
+        public View onCreateView(ViewGroup parent) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void onBindData(@NonNull View entryView) {
+        }
+
+        @Override
+        public void unbindData(@NonNull View entryView) {
+        }
+
+        @Override
+        public CharSequence getTitle() {
+            return null;
+        }
+
+        @Override
+        public CharSequence getSubTitle() {
+            return null;
+        }
+
+        @Override
+        public String getValue() {
+            return null;
+        }
+
+        @Override
+        public boolean theSame(BannerEntry newEntry) {
+            return newEntry == this;
+        }
+    }
+
+    private static class UrlEntry extends PlainEntry implements PrefetchableBannerEntry<String> {
+        private final String mUrl;
+
+        private UrlEntry(String url) {
+            mUrl = url;
+        }
+
+        @Override
+        public void onPrefetch(Context context, @NonNull BannerPrefetcher prefetcher) {
+            prefetcher.prefetch(context, mUrl);
+        }
+    }
+}
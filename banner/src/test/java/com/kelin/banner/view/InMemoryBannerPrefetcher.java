@@ -0,0 +1,27 @@
+package com.kelin.banner.view;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import com.kelin.banner.BannerPrefetcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 描述 只在内存中记录预取请求的预取器，用于测试。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午5:50
+ * 版本 v 1.0.0
+ */
+
+final class InMemoryBannerPrefetcher implements BannerPrefetcher {
+
+    final List<String> requests = new ArrayList<>();
+
+    @Override
+    public void prefetch(Context context, @NonNull String url) {
+        requests.add(url);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kelin.banner.view;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 描述 {@link BannerHelper#computeOffscreenPageLimit(int, int, float)}的测试。
+ * 创建人 kelin
+ * 创建时间 2026/10/18  下午10:50
+ * 版本 v 1.0.0
+ */
+
+public class OffscreenPageLimitTest {
+
+    private static final int STRIDE = 1000;
+
+    @Test
+    public void plainBannerKeepsViewPagerDefault() {
+        assertEquals(1, BannerHelper.computeOffscreenPageLimit(STRIDE, 0, 0));
+    }
+
+    @Test
+    public void narrowSidesNeedOneMorePage() {
+        assertEquals(2, BannerHelper.computeOffscreenPageLimit(STRIDE, 1, 0));
+        assertEquals(2, BannerHelper.computeOffscreenPageLimit(STRIDE, 120, 0));
+        assertEquals(2, BannerHelper.computeOffscreenPageLimit(STRIDE, STRIDE, 0));
+    }
+
+    @Test
+    public void widerSidesNeedMorePages() {
+        assertEquals(3, BannerHelper.computeOffscreenPageLimit(STRIDE, STRIDE + 1, 0));
+        assertEquals(4, BannerHelper.computeOffscreenPageLimit(STRIDE, STRIDE * 2 + 1, 0));
+    }
+
+    @Test
+    public void transformerTranslationIsRoundedUp() {
+        //画廊效果：两边可见且缩放后的页面会向当前页靠拢。
+        assertEquals(3, BannerHelper.computeOffscreenPageLimit(STRIDE, 120, 1));
+        assertEquals(2, BannerHelper.computeOffscreenPageLimit(STRIDE, 0, 0.5F));
+        assertEquals(4, BannerHelper.computeOffscreenPageLimit(STRIDE, 0, 2.25F));
+    }
+}